@@ -0,0 +1,48 @@
+package ru.admiralpashtet.reminder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Кэш страниц поиска напоминаний, ограниченный по размеру и времени жизни. Ключ включает версию данных
+ * пользователя, поэтому после любой записи, в том числе на другом узле, старые страницы больше не находятся
+ * и вытесняются по размеру или времени жизни без отдельного обхода кэша на запросе записи.
+ * Статистика доступна в метриках cache.gets и cache.evictions с тегом cache=reminder.search.
+ */
+@Component
+public class ReminderSearchCache {
+    private final Cache<Key, Page<ReminderResponse>> cache;
+
+    public ReminderSearchCache(MeterRegistry meterRegistry,
+                               @Value("${reminders.search-cache.maximum-size}") long maximumSize,
+                               @Value("${reminders.search-cache.ttl-seconds}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reminder.search");
+    }
+
+    /**
+     * Поиск по одному времени без даты зависит от текущего дня, поэтому день тоже входит в ключ.
+     */
+    public Page<ReminderResponse> get(Long userId, long dataVersion, SearchRequest searchRequest,
+                                      Supplier<Page<ReminderResponse>> loader) {
+        return cache.get(new Key(userId, dataVersion, searchRequest, LocalDate.now()), key -> loader.get());
+    }
+
+    private record Key(Long userId, long dataVersion, SearchRequest searchRequest, LocalDate day) {
+    }
+}
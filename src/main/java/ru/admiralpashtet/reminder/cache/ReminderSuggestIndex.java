@@ -0,0 +1,143 @@
+package ru.admiralpashtet.reminder.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.admiralpashtet.reminder.dto.projection.ReminderTitle;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.search.PrefixTrie;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Индекс слов заголовков напоминаний для подсказок поисковой строки. Дерево пользователя строится одним запросом
+ * при первой подсказке и дальше поддерживается по {@link ReminderChangedEvent}, поэтому подсказки не ходят в БД.
+ * Записи, сделанные на других узлах или в обход сервиса, видны после перестроения дерева, которое происходит
+ * не реже чем раз в rebuild-minutes. Статистика доступна в метриках cache.* с тегом cache=reminder.suggest.
+ */
+@Component
+public class ReminderSuggestIndex {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReminderRepository reminderRepository;
+    private final Cache<Long, UserIndex> cache;
+    private final long rebuildAfterNanos;
+
+    public ReminderSuggestIndex(ReminderRepository reminderRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${reminders.suggest.maximum-users}") long maximumUsers,
+                                @Value("${reminders.suggest.rebuild-minutes}") long rebuildMinutes) {
+        this.reminderRepository = reminderRepository;
+        this.rebuildAfterNanos = Duration.ofMinutes(rebuildMinutes).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterAccess(Duration.ofMinutes(rebuildMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reminder.suggest");
+    }
+
+    public List<String> suggest(Long userId, String prefix, int limit) {
+        String normalized = prefix == null ? "" : prefix.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        UserIndex index = cache.get(userId, this::load);
+        if (System.nanoTime() - index.builtAt > rebuildAfterNanos) {
+            cache.asMap().remove(userId, index);
+            index = cache.get(userId, this::load);
+        }
+        return index.complete(normalized, limit);
+    }
+
+    /**
+     * Событие обрабатывается после фиксации транзакции, чтобы откаченная запись не попала в подсказки.
+     * Обновление идет через computeIfPresent: если дерево пользователя как раз строится, событие применяется
+     * после построения, а повторное добавление того же напоминания ничего не меняет.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReminderChanged(ReminderChangedEvent event) {
+        cache.asMap().computeIfPresent(event.getUserId(), (userId, index) -> {
+            if (event.getType() == ReminderChangedEvent.ChangeType.DELETED) {
+                index.remove(event.getReminderId());
+            } else {
+                index.put(event.getReminderId(), event.getReminder().getTitle());
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Массовый перенос срока заголовки не меняет, поэтому дерево правится только при удалении. Событие
+     * массового создания несет только id, поэтому дерево пользователя сбрасывается и строится заново
+     * при следующей подсказке.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemindersBulkChanged(ReminderBulkChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> cache.invalidate(event.getUserId());
+            case DELETED -> cache.asMap().computeIfPresent(event.getUserId(), (userId, index) -> {
+                event.getReminderIds().forEach(index::remove);
+                return index;
+            });
+            case UPDATED -> {
+            }
+        }
+    }
+
+    private UserIndex load(Long userId) {
+        UserIndex index = new UserIndex();
+        for (ReminderTitle reminder : reminderRepository.findTitlesByUserId(userId)) {
+            index.put(reminder.id(), reminder.title());
+        }
+        return index;
+    }
+
+    private static List<String> tokenize(String title) {
+        if (title == null) {
+            return List.of();
+        }
+        return SEPARATORS.splitAsStream(title.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Слово считается один раз на напоминание, поэтому частота слова - число напоминаний, в заголовке которых оно есть.
+     */
+    private static class UserIndex {
+        private final PrefixTrie trie = new PrefixTrie();
+        private final Map<Long, List<String>> tokensByReminder = new HashMap<>();
+        private final long builtAt = System.nanoTime();
+
+        synchronized void put(Long reminderId, String title) {
+            remove(reminderId);
+            List<String> tokens = tokenize(title);
+            tokens.forEach(trie::add);
+            tokensByReminder.put(reminderId, tokens);
+        }
+
+        synchronized void remove(Long reminderId) {
+            List<String> tokens = tokensByReminder.remove(reminderId);
+            if (tokens != null) {
+                tokens.forEach(trie::remove);
+            }
+        }
+
+        synchronized List<String> complete(String prefix, int limit) {
+            return trie.complete(prefix, limit);
+        }
+    }
+}
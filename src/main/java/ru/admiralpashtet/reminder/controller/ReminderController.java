@@ -2,25 +2,69 @@ package ru.admiralpashtet.reminder.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+import ru.admiralpashtet.reminder.dto.request.ReminderBatchRequest;
+import ru.admiralpashtet.reminder.dto.request.ReminderFilterRequest;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.RescheduleRequest;
+import ru.admiralpashtet.reminder.dto.request.ScrollRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.BulkResponse;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
+import ru.admiralpashtet.reminder.dto.response.ChangesResponse;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+import ru.admiralpashtet.reminder.dto.response.ScrollResponse;
 import ru.admiralpashtet.reminder.entity.CustomUserPrincipal;
+import ru.admiralpashtet.reminder.export.ExportFormat;
+import ru.admiralpashtet.reminder.service.ExportService;
 import ru.admiralpashtet.reminder.service.ReminderService;
+import ru.admiralpashtet.reminder.service.SyncService;
+import ru.admiralpashtet.reminder.service.UserService;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
 
 @Tag(name = "Reminder controller", description = "Controller for working with reminders")
 @RestController
-@AllArgsConstructor
 @RequestMapping("/api/v1/reminders")
 public class ReminderController {
+    private static final String SEARCH_PATH = "/api/v1/reminders/search";
+
     private final ReminderService reminderService;
+    private final SyncService syncService;
+    private final UserService userService;
+    private final ExportService exportService;
+    private final CacheControl searchCacheControl;
+
+    public ReminderController(ReminderService reminderService,
+                              SyncService syncService,
+                              UserService userService,
+                              ExportService exportService,
+                              @Value("${reminders.http-cache.max-age-seconds}") long maxAgeSeconds) {
+        this.reminderService = reminderService;
+        this.syncService = syncService;
+        this.userService = userService;
+        this.exportService = exportService;
+        this.searchCacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate();
+    }
 
     @PostMapping
     @Operation(summary = "Create a new reminder")
@@ -30,6 +74,15 @@ public class ReminderController {
         return new ResponseEntity<>(reminderResponse, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create several reminders at once",
+            description = "All reminders are created in one transaction, the response keeps the request order.")
+    public ResponseEntity<List<ReminderResponse>> createAll(@RequestBody @Valid ReminderBatchRequest batchRequest,
+                                                            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        List<ReminderResponse> created = reminderService.createAll(batchRequest.reminders(), principal.getId());
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
     @PatchMapping("/{id}")
     @Operation(summary = "Update exists reminder")
     public ResponseEntity<ReminderResponse> update(@RequestBody @Valid ReminderRequest reminderRequest,
@@ -39,14 +92,129 @@ public class ReminderController {
         return new ResponseEntity<>(updated, HttpStatus.OK);
     }
 
+    @PatchMapping("/bulk")
+    @Operation(summary = "Shift the remind time of all reminders matching the filter",
+            description = "Rescheduled reminders are pending again. Returns the number of rescheduled reminders.")
+    public ResponseEntity<BulkResponse> rescheduleAll(@RequestBody @Valid RescheduleRequest rescheduleRequest,
+                                                      @AuthenticationPrincipal CustomUserPrincipal principal) {
+        int rescheduled = reminderService.rescheduleAll(principal.getId(), rescheduleRequest.filter(),
+                rescheduleRequest.shift());
+        return new ResponseEntity<>(new BulkResponse(rescheduled), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/bulk")
+    @Operation(summary = "Delete all reminders matching the filter",
+            description = "Returns the number of deleted reminders.")
+    public ResponseEntity<BulkResponse> deleteAll(@RequestBody @Valid ReminderFilterRequest filterRequest,
+                                                  @AuthenticationPrincipal CustomUserPrincipal principal) {
+        int deleted = reminderService.deleteAll(principal.getId(), filterRequest);
+        return new ResponseEntity<>(new BulkResponse(deleted), HttpStatus.OK);
+    }
+
+    /**
+     * Версия данных проверяется до поиска: при совпадении If-None-Match сразу отдается 304.
+     */
     @GetMapping
-    @Operation(summary = "Get all reminders by search filters")
+    @Operation(summary = "Get all reminders by search filters",
+            description = "Returns a strong ETag and answers 304 Not Modified to a matching If-None-Match.")
     public ResponseEntity<Page<ReminderResponse>> getAll(@RequestBody @Valid SearchRequest searchRequest,
-                                                         @AuthenticationPrincipal CustomUserPrincipal principal) {
-        Page<ReminderResponse> reminderPage = reminderService.findAll(principal.getId(), searchRequest);
+                                                         @AuthenticationPrincipal CustomUserPrincipal principal,
+                                                         WebRequest request) {
+        SearchRequest normalized = searchRequest.normalized();
+        if (request.checkNotModified(searchETag(principal.getId(), normalized))) {
+            return null;
+        }
+        Page<ReminderResponse> reminderPage = reminderService.findAll(principal.getId(), normalized);
         return new ResponseEntity<>(reminderPage, HttpStatus.OK);
     }
 
+    /**
+     * Тот же поиск, что и {@link #getAll}, но параметры передаются строкой запроса, поэтому ответ может
+     * сохранить браузер или другой кэш клиента. Ответ приватный и зависит от токена, отсюда Vary: Authorization.
+     * Content-Location содержит каноническую форму запроса с параметрами в постоянном порядке.
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Get all reminders by search filters passed as query parameters",
+            description = "Parameters are named as the fields of the JSON search request. Words of a keywords " +
+                    "search are joined by an encoded plus (%2B). Returns a private Cache-Control, a strong ETag " +
+                    "and the canonical URL of the search in Content-Location.")
+    public ResponseEntity<Page<ReminderResponse>> search(@ModelAttribute @Valid SearchRequest searchRequest,
+                                                         @AuthenticationPrincipal CustomUserPrincipal principal,
+                                                         WebRequest request,
+                                                         HttpServletResponse response) {
+        SearchRequest normalized = searchRequest.normalized();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, searchCacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        response.setHeader(HttpHeaders.CONTENT_LOCATION, canonicalSearchLocation(normalized));
+        if (request.checkNotModified(searchETag(principal.getId(), normalized))) {
+            return null;
+        }
+        return new ResponseEntity<>(reminderService.findAll(principal.getId(), normalized), HttpStatus.OK);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Get reminders page by page with a cursor, sorted by remind",
+            description = "Parameters are passed in the query string: cursor is the nextCursor of the previous " +
+                    "page, asc and size must stay the same for all pages of one scroll.")
+    public ResponseEntity<ScrollResponse<ReminderResponse>> scroll(@ModelAttribute @Valid ScrollRequest scrollRequest,
+                                                                   @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ScrollResponse<ReminderResponse> scrollResponse = reminderService.scroll(principal.getId(), scrollRequest);
+        return new ResponseEntity<>(scrollResponse, HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get the number of reminders for every day of the range",
+            description = "Both bounds are inclusive, the range must not be longer than a year. " +
+                    "Days without reminders are omitted.")
+    public ResponseEntity<List<CalendarDayResponse>> getCalendar(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        return new ResponseEntity<>(reminderService.countByDay(principal.getId(), from, to), HttpStatus.OK);
+    }
+
+    /**
+     * Тело пишется уже после выхода из метода, в потоке асинхронной обработки запроса, поэтому id пользователя
+     * и формат разбираются здесь, а ошибка в формате возвращается обычным 400.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export all reminders of the current user",
+            description = "Reminders are ordered by remind time and streamed as they are read. " +
+                    "Ndjson writes one JSON object per line, csv writes a header row first.")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        Long userId = principal.getId();
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("reminders." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> exportService.export(userId, exportFormat, outputStream));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Get words from reminder titles starting with the prefix",
+            description = "Words are ordered by the number of reminders whose titles contain them. " +
+                    "Served from an in-memory index, the limit must be between 1 and 20.")
+    public ResponseEntity<List<String>> suggest(@RequestParam("prefix") String prefix,
+                                                @RequestParam(value = "limit", defaultValue = "10") int limit,
+                                                @AuthenticationPrincipal CustomUserPrincipal principal) {
+        return new ResponseEntity<>(reminderService.suggest(principal.getId(), prefix, limit), HttpStatus.OK);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get reminders created, updated or deleted after the sync token",
+            description = "Without a token returns all reminders. Returns 410 when the token is too old, " +
+                    "then the client must reload all reminders and continue with the new token.")
+    public ResponseEntity<ChangesResponse> getChanges(@RequestParam(value = "since", required = false) String since,
+                                                      @AuthenticationPrincipal CustomUserPrincipal principal) {
+        ChangesResponse changesResponse = syncService.findChanges(principal.getId(), since);
+        return new ResponseEntity<>(changesResponse, HttpStatus.OK);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete reminder by id")
     public ResponseEntity<Void> delete(@PathVariable("id") long reminderId,
@@ -54,4 +222,37 @@ public class ReminderController {
         reminderService.deleteById(reminderId, principal.getId());
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
\ No newline at end of file
+
+    /**
+     * Поиск без даты по одному времени зависит от текущего дня, поэтому день тоже входит в ETag.
+     */
+    private String searchETag(Long userId, SearchRequest searchRequest) {
+        long dataVersion = userService.findDataVersion(userId);
+        return "\"" + dataVersion + "-" + Integer.toHexString(Objects.hash(searchRequest, LocalDate.now())) + "\"";
+    }
+
+    private static String canonicalSearchLocation(SearchRequest searchRequest) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(SEARCH_PATH);
+        addParam(builder, "searchQuery", searchRequest.searchQuery());
+        addParam(builder, "searchByDate", searchRequest.date());
+        addParam(builder, "searchByTime", searchRequest.time());
+        addParam(builder, "from", searchRequest.from());
+        addParam(builder, "to", searchRequest.to());
+        addParam(builder, "searchMode", searchRequest.searchMode());
+        addParam(builder, "countMode", searchRequest.countMode());
+        addParam(builder, "sortBy", searchRequest.sortBy());
+        addParam(builder, "asc", searchRequest.ascending());
+        addParam(builder, "page", searchRequest.page());
+        addParam(builder, "size", searchRequest.size());
+        return builder.build(true).toUriString();
+    }
+
+    /**
+     * Значения кодируются заранее: UriComponentsBuilder оставляет плюс как есть, а сервер прочитал бы его как пробел.
+     */
+    private static void addParam(UriComponentsBuilder builder, String name, Object value) {
+        if (value != null) {
+            builder.queryParam(name, URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        }
+    }
+}
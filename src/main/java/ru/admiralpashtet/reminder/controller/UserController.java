@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.admiralpashtet.reminder.dto.request.UserSettingsRequest;
 import ru.admiralpashtet.reminder.dto.response.UserResponse;
 import ru.admiralpashtet.reminder.entity.CustomUserPrincipal;
@@ -21,8 +22,13 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
-    @Operation(summary = "Get user info")
-    public ResponseEntity<UserResponse> getUserInfo(@AuthenticationPrincipal CustomUserPrincipal principal) {
+    @Operation(summary = "Get user info",
+            description = "Returns a strong ETag and answers 304 Not Modified to a matching If-None-Match.")
+    public ResponseEntity<UserResponse> getUserInfo(@AuthenticationPrincipal CustomUserPrincipal principal,
+                                                    WebRequest request) {
+        if (request.checkNotModified("\"" + userService.findDataVersion(principal.getId()) + "\"")) {
+            return null;
+        }
         UserResponse userResponse = userService.findById(principal.getId());
         return new ResponseEntity<>(userResponse, HttpStatus.OK);
     }
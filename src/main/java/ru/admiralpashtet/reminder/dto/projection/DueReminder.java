@@ -0,0 +1,34 @@
+package ru.admiralpashtet.reminder.dto.projection;
+
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.entity.TelegramData;
+import ru.admiralpashtet.reminder.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Плоское представление наступившего напоминания со всем, что нужно для отправки.
+ * Читается одним запросом с join на Users, без загрузки управляемых сущностей.
+ */
+public record DueReminder(
+        Long id,
+        Long userId,
+        String title,
+        String description,
+        LocalDateTime remind,
+        String reminderEmail,
+        Long telegramChatId) {
+
+    public static DueReminder from(Reminder reminder) {
+        User user = reminder.getUser();
+        TelegramData telegramData = user.getTelegramData();
+        return new DueReminder(
+                reminder.getId(),
+                user.getId(),
+                reminder.getTitle(),
+                reminder.getDescription(),
+                reminder.getRemind(),
+                user.getReminderEmail(),
+                telegramData != null ? telegramData.getChatId() : null);
+    }
+}
@@ -0,0 +1,19 @@
+package ru.admiralpashtet.reminder.dto.projection;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import ru.admiralpashtet.reminder.entity.ReminderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Строка выгрузки напоминаний. Читается конструктором в запросе, поэтому не попадает в контекст
+ * персистентности и не копится в нем при выгрузке большого числа строк.
+ */
+public record ReminderExportRow(
+        Long id,
+        String title,
+        String description,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime remind,
+        ReminderStatus status) {
+}
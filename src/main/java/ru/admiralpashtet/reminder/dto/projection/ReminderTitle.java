@@ -0,0 +1,6 @@
+package ru.admiralpashtet.reminder.dto.projection;
+
+public record ReminderTitle(
+        Long id,
+        String title) {
+}
@@ -0,0 +1,15 @@
+package ru.admiralpashtet.reminder.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ReminderBatchRequest(
+        @NotEmpty(message = "Batch must contain at least one reminder")
+        @Size(max = 1000, message = "Batch must not contain more than 1000 reminders")
+        @Schema(description = "Reminders to create, up to 1000 in one request.")
+        List<@Valid ReminderRequest> reminders) {
+}
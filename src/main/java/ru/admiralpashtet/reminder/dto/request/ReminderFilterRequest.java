@@ -0,0 +1,28 @@
+package ru.admiralpashtet.reminder.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Selects reminders of the current user. At least one condition is required, " +
+        "given conditions are combined with AND.")
+public record ReminderFilterRequest(
+        @Size(max = 1000, message = "Filter must not contain more than 1000 ids")
+        @Schema(description = "Reminder ids.")
+        List<Long> ids,
+        @Size(max = 255, message = "Search query must be less then 255 characters")
+        @Schema(description = "Words connected by a plus, every word must be in the title or description.",
+                example = "sanya+birthday")
+        String searchQuery,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "First day of the remind range, inclusive. ISO format is used.",
+                example = "2025-05-01")
+        LocalDate from,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @Schema(description = "Last day of the remind range, inclusive. ISO format is used.",
+                example = "2025-05-31")
+        LocalDate to) {
+}
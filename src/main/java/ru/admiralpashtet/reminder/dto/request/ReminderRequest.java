@@ -13,7 +13,7 @@ public record ReminderRequest(
         @Size(max = 4096, message = "The description size should not exceed 4096 characters")
         String description,
         @NotNull(message = "Date and time cannot be null. ISO format expected")
-        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
-        @Schema(example = "2025-05-06T16:41")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm[:ss]")
+        @Schema(description = "Seconds are optional.", example = "2025-05-06T16:41:30")
         LocalDateTime remind) {
 }
\ No newline at end of file
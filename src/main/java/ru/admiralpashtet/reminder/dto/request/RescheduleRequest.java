@@ -0,0 +1,17 @@
+package ru.admiralpashtet.reminder.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
+
+public record RescheduleRequest(
+        @NotNull(message = "Filter cannot be null")
+        @Valid
+        ReminderFilterRequest filter,
+        @NotNull(message = "Shift cannot be null. ISO-8601 duration expected")
+        @Schema(description = "Shift of the remind time, negative moves reminders earlier. ISO-8601 duration.",
+                example = "PT2H")
+        Duration shift) {
+}
@@ -0,0 +1,37 @@
+package ru.admiralpashtet.reminder.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.springframework.web.bind.annotation.BindParam;
+
+/**
+ * Параметры ленты принимаются строкой запроса, имена параметров совпадают с именами полей JSON.
+ */
+public record ScrollRequest(
+        @JsonProperty(value = "cursor")
+        @Schema(description = "Opaque cursor from the nextCursor field of the previous page. " +
+                "Empty for the first page.")
+        String cursor,
+        @JsonProperty(value = "asc")
+        @BindParam("asc")
+        @Schema(description = "Sorting direction by remind. Must be the same for all pages of one scroll.",
+                defaultValue = "true")
+        Boolean ascending,
+        @JsonProperty(value = "size")
+        @Schema(description = "Number of elements on one page", defaultValue = "10")
+        @Positive(message = "Page size must be positive")
+        @Max(value = 1000, message = "Page size must be at most 1000")
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 10;
+
+    /**
+     * Пропущенные параметры получают документированные значения по умолчанию.
+     */
+    public ScrollRequest {
+        ascending = ascending != null ? ascending : Boolean.TRUE;
+        size = size != null ? size : DEFAULT_SIZE;
+    }
+}
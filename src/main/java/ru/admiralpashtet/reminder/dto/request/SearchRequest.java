@@ -6,10 +6,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.BindParam;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Locale;
 
+/**
+ * Параметры поиска принимаются и телом JSON, и строкой запроса. Имена параметров строки запроса совпадают
+ * с именами полей JSON.
+ */
 public record SearchRequest(
         @JsonProperty(value = "searchQuery")
         @Size(max = 255,
@@ -20,30 +27,88 @@ public record SearchRequest(
                 example = "searchQuery=sanya+birthday")
         String searchQuery,
         @JsonProperty(value = "searchByDate")
+        @BindParam("searchByDate")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
         @Schema(description = "ISO format is used.",
                 example = "searchByDate=2025-05-06")
         LocalDate date,
         @JsonProperty(value = "searchByTime")
+        @BindParam("searchByTime")
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
         @Schema(description = "ISO format is used.",
                 example = "searchByTime=15:50")
         LocalTime time,
         @JsonProperty(value = "sortBy")
-        @Schema(description = "Sort condition parameter.",
-                allowableValues = {"title", "description", "remind"},
+        @Schema(description = "Sort condition parameter. Relevance is available only in fulltext and fuzzy search modes.",
+                allowableValues = {"title", "description", "remind", "relevance"},
                 defaultValue = "remind")
         String sortBy,
         @JsonProperty(value = "asc")
+        @BindParam("asc")
         @Schema(description = "Sorting direction", defaultValue = "true")
-        boolean ascending,
+        Boolean ascending,
         @JsonProperty(value = "page")
         @Schema(description = "Current page number", defaultValue = "0")
         @PositiveOrZero(message = "Page number must be positive or zero")
-        int page,
+        Integer page,
         @JsonProperty(value = "size")
         @Schema(description = "Number of elements on one page", defaultValue = "10")
         @Positive(message = "Page size must be positive")
-        int size
+        Integer size,
+        @JsonProperty(value = "searchMode")
+        @Schema(description = "Search mode. Keywords searches every plus-separated word as a substring, " +
+                "fulltext uses web search syntax: quoted phrases, 'or' and '-' for exclusion, " +
+                "fuzzy finds titles and descriptions similar to the query and tolerates typos.",
+                allowableValues = {"keywords", "fulltext", "fuzzy"},
+                defaultValue = "keywords")
+        String searchMode,
+        @JsonProperty(value = "countMode")
+        @Schema(description = "How totalElements is calculated for filtered searches. Exact runs a count query, " +
+                "estimated takes the planner estimate, none skips counting and reports only whether " +
+                "the next page exists. Unfiltered lists always return the exact total.",
+                allowableValues = {"exact", "estimated", "none"},
+                defaultValue = "exact")
+        String countMode,
+        @JsonProperty(value = "from")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "First day of the remind range, inclusive. ISO format is used.",
+                example = "from=2025-05-01")
+        LocalDate from,
+        @JsonProperty(value = "to")
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "Last day of the remind range, inclusive. ISO format is used.",
+                example = "to=2025-05-31")
+        LocalDate to
 ) {
+    public static final String DEFAULT_SORT_BY = "remind";
+    public static final int DEFAULT_PAGE = 0;
+    public static final int DEFAULT_SIZE = 10;
+
+    /**
+     * Пропущенные параметры получают документированные значения по умолчанию и в строке запроса, и в теле JSON.
+     */
+    public SearchRequest {
+        sortBy = sortBy != null ? sortBy : DEFAULT_SORT_BY;
+        ascending = ascending != null ? ascending : Boolean.TRUE;
+        page = page != null ? page : DEFAULT_PAGE;
+        size = size != null ? size : DEFAULT_SIZE;
+    }
+
+    /**
+     * Приводит запрос к канонической форме: запросы, отличающиеся только регистром режимов и пробелами
+     * по краям строки поиска, дают один и тот же ETag и одну запись в кэше поиска.
+     */
+    public SearchRequest normalized() {
+        String query = searchQuery == null || searchQuery.isBlank() ? null : searchQuery.strip();
+        return new SearchRequest(query, date, time, lowerCase(sortBy), ascending, page, size,
+                lowerCase(searchMode), lowerCase(countMode), from, to);
+    }
+
+    private static String lowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
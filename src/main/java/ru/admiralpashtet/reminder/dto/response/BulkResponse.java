@@ -0,0 +1,5 @@
+package ru.admiralpashtet.reminder.dto.response;
+
+public record BulkResponse(
+        int affected) {
+}
@@ -0,0 +1,11 @@
+package ru.admiralpashtet.reminder.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+
+public record CalendarDayResponse(
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        LocalDate day,
+        Long reminders) {
+}
@@ -0,0 +1,9 @@
+package ru.admiralpashtet.reminder.dto.response;
+
+import java.util.List;
+
+public record ChangesResponse(
+        List<ReminderResponse> changed,
+        List<Long> deleted,
+        String nextToken) {
+}
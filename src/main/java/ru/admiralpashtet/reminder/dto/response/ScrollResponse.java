@@ -0,0 +1,9 @@
+package ru.admiralpashtet.reminder.dto.response;
+
+import java.util.List;
+
+public record ScrollResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext) {
+}
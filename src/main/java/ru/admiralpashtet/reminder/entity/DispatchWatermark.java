@@ -0,0 +1,24 @@
+package ru.admiralpashtet.reminder.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Граница, до которой (включительно) наступившие напоминания уже переданы на отправку.
+ */
+@Entity
+@Table(name = "dispatch_watermark")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DispatchWatermark {
+    @Id
+    private String name;
+    private LocalDateTime dispatchedUntil;
+}
@@ -0,0 +1,34 @@
+package ru.admiralpashtet.reminder.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись исходящей очереди уведомлений: одна строка на напоминание и канал.
+ * Пока запись в работе у воркера, available_at сдвинут вперед и служит арендой.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long reminderId;
+    @Enumerated(EnumType.STRING)
+    private NotificationChannel channel;
+    private LocalDateTime dueAt;
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime availableAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime deliveredAt;
+    private String lastError;
+}
@@ -0,0 +1,5 @@
+package ru.admiralpashtet.reminder.entity;
+
+public enum OutboxStatus {
+    PENDING, DELIVERED, FAILED, DISCARDED
+}
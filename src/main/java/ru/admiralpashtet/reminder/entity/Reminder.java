@@ -2,29 +2,56 @@ package ru.admiralpashtet.reminder.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Reminders")
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Reminder {
+    /**
+     * Идентификаторы берутся из последовательности блоками, поэтому вставки нескольких напоминаний идут пачкой.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reminders_id_seq")
+    @SequenceGenerator(name = "reminders_id_seq", sequenceName = "reminders_id_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String description;
     @NotNull
     private LocalDateTime remind;
-    @ManyToOne
+    /**
+     * Пользователь загружается только при обращении к его полям: ответам нужен лишь id, который есть у прокси.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     @NotNull
     @ToString.Exclude
     private User user;
+    /**
+     * Заполняется значением по умолчанию в БД и меняется только нативными запросами репозитория,
+     * чтобы сохранение сущности не затирало отметку об отправке, сделанную планировщиком.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(insertable = false, updatable = false)
+    private ReminderStatus status;
+    /**
+     * Время последнего изменения через сущность, по нему клиенты забирают изменения. Отметки отправки
+     * меняют только статус и клиентам не видны, поэтому время не трогают.
+     */
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public Reminder(Long id, String title, String description, LocalDateTime remind, User user) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.remind = remind;
+        this.user = user;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ru.admiralpashtet.reminder.entity;
+
+/**
+ * EXPIRED - конечный статус напоминания, которое планировщик уже не отправит: оно опоздало сильнее,
+ * чем допускает режим отправки. Такие строки не занимают частичный индекс ожидающих и не держат секцию
+ * от удаления по сроку хранения.
+ */
+public enum ReminderStatus {
+    PENDING, SENT, EXPIRED
+}
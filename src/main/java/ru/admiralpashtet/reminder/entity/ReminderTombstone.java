@@ -0,0 +1,25 @@
+package ru.admiralpashtet.reminder.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Отметка об удалении напоминания, по которой клиенты узнают об удалениях при синхронизации.
+ */
+@Entity
+@Table(name = "reminder_tombstones")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReminderTombstone {
+    @Id
+    private Long reminderId;
+    private Long userId;
+    private LocalDateTime deletedAt;
+}
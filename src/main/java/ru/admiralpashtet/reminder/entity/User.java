@@ -14,7 +14,8 @@ import java.util.List;
 @NoArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
     private String email;
     @Email(message = "The email must be in the correct format.")
@@ -24,6 +25,12 @@ public class User {
             @AttributeOverride(name = "username", column = @Column(name = "telegram_username")),
             @AttributeOverride(name = "chatId", column = @Column(name = "telegram_chat_id"))})
     private TelegramData telegramData;
+    /**
+     * Версия данных пользователя и его напоминаний для ETag. Увеличивается только запросом
+     * {@link ru.admiralpashtet.reminder.repository.UserRepository#incrementDataVersion}, сохранение сущности ее не трогает.
+     */
+    @Column(insertable = false, updatable = false)
+    private Long dataVersion;
     @OneToMany(mappedBy = "user", orphanRemoval = true)
     @ToString.Exclude
     private List<Reminder> reminders;
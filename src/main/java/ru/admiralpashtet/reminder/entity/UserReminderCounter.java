@@ -0,0 +1,24 @@
+package ru.admiralpashtet.reminder.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Количество напоминаний пользователя, всего и ожидающих отправки. Поддерживается в тех же транзакциях,
+ * что и изменения Reminders, чтобы общее число для списка не считалось через count(*).
+ */
+@Entity
+@Table(name = "user_reminder_counters")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserReminderCounter {
+    @Id
+    private Long userId;
+    private long total;
+    private long pending;
+}
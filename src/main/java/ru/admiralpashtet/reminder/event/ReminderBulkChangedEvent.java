@@ -0,0 +1,20 @@
+package ru.admiralpashtet.reminder.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent.ChangeType;
+
+import java.util.List;
+
+/**
+ * Событие массового изменения напоминаний одного пользователя. Публикуется один раз на операцию вместо
+ * {@link ReminderChangedEvent} на каждое напоминание, поэтому несет только id: слушатели, которым нужны данные
+ * напоминаний, читают их одним запросом.
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderBulkChangedEvent {
+    private final ChangeType type;
+    private final Long userId;
+    private final List<Long> reminderIds;
+}
@@ -0,0 +1,24 @@
+package ru.admiralpashtet.reminder.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import ru.admiralpashtet.reminder.entity.Reminder;
+
+/**
+ * Событие изменения напоминания. Публикуется сервисом после create/update/deleteById,
+ * чтобы компоненты, держащие состояние в памяти (планировщики и т.п.), могли синхронизироваться без опроса БД.
+ * <p/>
+ * Для {@link ChangeType#DELETED} поле reminder равно null.
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderChangedEvent {
+    private final ChangeType type;
+    private final Long reminderId;
+    private final Long userId;
+    private final Reminder reminder;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
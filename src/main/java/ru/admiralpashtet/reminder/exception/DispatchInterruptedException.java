@@ -0,0 +1,7 @@
+package ru.admiralpashtet.reminder.exception;
+
+public class DispatchInterruptedException extends RuntimeException {
+    public DispatchInterruptedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
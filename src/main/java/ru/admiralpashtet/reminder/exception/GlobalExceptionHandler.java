@@ -65,6 +65,15 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler
+    private ResponseEntity<ExceptionResponse> handleSyncTokenExpiredException(SyncTokenExpiredException exception,
+                                                                              WebRequest request) {
+        ExceptionResponse response =
+                new ExceptionResponse(exception.getMessage(), LocalDateTime.now(), getPath(request));
+        log.error("An exception was caught: " + exception);
+        return new ResponseEntity<>(response, HttpStatus.GONE);
+    }
+
     @ExceptionHandler
     private ResponseEntity<ExceptionResponse> handleAccessDeniedException(AccessDeniedException exception, WebRequest request) {
         ExceptionResponse response =
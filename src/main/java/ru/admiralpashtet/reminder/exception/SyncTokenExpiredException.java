@@ -0,0 +1,7 @@
+package ru.admiralpashtet.reminder.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -11,9 +11,12 @@ import ru.admiralpashtet.reminder.repository.UserRepository;
 public class MapperHelper {
     private final UserRepository userRepository;
 
+    /**
+     * id приходит из principal и уже проверен при аутентификации, поэтому пользователь не читается:
+     * для внешнего ключа достаточно прокси, и создание напоминания обходится одним INSERT.
+     */
     @Named("idToUser")
     public User idToUser(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User with id " + userId + " was not found"));
+        return userRepository.getReferenceById(userId);
     }
 }
\ No newline at end of file
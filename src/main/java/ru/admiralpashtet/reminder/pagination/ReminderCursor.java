@@ -0,0 +1,30 @@
+package ru.admiralpashtet.reminder.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция в ленте напоминаний: ключ сортировки и id последнего отданного элемента. Для клиента курсор
+ * непрозрачен - это base64url от "remind|id", который нужно вернуть как есть за следующей страницей.
+ */
+public record ReminderCursor(LocalDateTime remind, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = remind + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReminderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ReminderCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Illegal argument in cursor field. Expected a cursor from a previous page");
+        }
+    }
+}
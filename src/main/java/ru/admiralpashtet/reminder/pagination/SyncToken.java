@@ -0,0 +1,27 @@
+package ru.admiralpashtet.reminder.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция клиента в ленте изменений: все изменения до этого момента включительно им уже получены.
+ * Для клиента токен непрозрачен.
+ */
+public record SyncToken(LocalDateTime position) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            return new SyncToken(LocalDateTime.parse(
+                    new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Illegal argument in since parameter. Expected a token from a previous sync");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.admiralpashtet.reminder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import ru.admiralpashtet.reminder.entity.DispatchWatermark;
+
+@Repository
+public interface DispatchWatermarkRepository extends JpaRepository<DispatchWatermark, String> {
+}
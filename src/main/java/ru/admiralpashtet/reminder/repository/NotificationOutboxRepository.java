@@ -0,0 +1,68 @@
+package ru.admiralpashtet.reminder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.entity.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            WHERE channel = :channel
+              AND status = 'PENDING'
+              AND available_at <= :now
+            ORDER BY available_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<NotificationOutbox> lockPending(@Param("channel") String channel,
+                                         @Param("now") LocalDateTime now,
+                                         @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox SET available_at = :leaseUntil, attempts = attempts + 1
+            WHERE id IN (:ids)""", nativeQuery = true)
+    int lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox SET status = 'DELIVERED', delivered_at = :deliveredAt, last_error = NULL
+            WHERE id IN (:ids)""", nativeQuery = true)
+    int markDelivered(@Param("ids") List<Long> ids, @Param("deliveredAt") LocalDateTime deliveredAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                available_at = :retryAt,
+                last_error = :error
+            WHERE id = :id""", nativeQuery = true)
+    int markFailed(@Param("id") Long id,
+                   @Param("error") String error,
+                   @Param("retryAt") LocalDateTime retryAt,
+                   @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'DISCARDED' WHERE id IN (:ids)", nativeQuery = true)
+    int markDiscarded(@Param("ids") List<Long> ids);
+
+    /**
+     * Удаляет завершенные записи по индексу notification_outbox_finished_idx, ожидающие не трогаются.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE status <> 'PENDING' AND created_at < :before",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package ru.admiralpashtet.reminder.repository;
+
+import ru.admiralpashtet.reminder.search.ReminderFilter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReminderBulkRepository {
+    List<Long> rescheduleOwned(Long userId, ReminderFilter filter, Duration shift, LocalDateTime now);
+
+    List<Long> deleteOwned(Long userId, ReminderFilter filter, LocalDateTime now);
+}
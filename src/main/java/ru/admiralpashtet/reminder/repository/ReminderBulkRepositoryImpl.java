@@ -0,0 +1,129 @@
+package ru.admiralpashtet.reminder.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import ru.admiralpashtet.reminder.search.ReminderFilter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Массовые операции над напоминаниями пользователя. Каждая операция - один нативный запрос: отбор по user_id
+ * и фильтру, изменение строк, счетчики user_reminder_counters, версия данных пользователя и, для удаления,
+ * tombstone для синхронизации. Возвращаются id затронутых напоминаний.
+ */
+public class ReminderBulkRepositoryImpl implements ReminderBulkRepository {
+    /**
+     * Перенос срока в будущее снова ставит напоминания в ожидание отправки. Перенесенные в прошлое сохраняют
+     * статус, иначе уже доставленные ушли бы повторно при догоняющей отправке. Прежний статус читается
+     * под блокировкой строк, счетчик ожидающих растет на число снова ожидающих из отправленных и просроченных.
+     */
+    private static final String RESCHEDULE = """
+            WITH target AS (
+                SELECT r.id, r.status, r.remind + :shiftSeconds * INTERVAL '1 second' AS remind
+                FROM Reminders r %s FOR UPDATE),
+            shifted AS (
+                UPDATE Reminders r
+                SET remind = t.remind,
+                    status = CASE WHEN t.remind > :now THEN 'PENDING' ELSE r.status END,
+                    sent_at = CASE WHEN t.remind > :now THEN NULL ELSE r.sent_at END,
+                    lease_owner = CASE WHEN t.remind > :now THEN NULL ELSE r.lease_owner END,
+                    lease_until = CASE WHEN t.remind > :now THEN NULL ELSE r.lease_until END,
+                    updated_at = :now
+                FROM target t
+                WHERE r.id = t.id
+                RETURNING r.id, r.status, t.status AS previous_status),
+            counted AS (
+                UPDATE user_reminder_counters c
+                SET pending = c.pending
+                    + (SELECT count(*) FROM shifted WHERE previous_status <> 'PENDING' AND status = 'PENDING')
+                WHERE c.user_id = :userId
+                    AND EXISTS (SELECT 1 FROM shifted WHERE previous_status <> 'PENDING' AND status = 'PENDING')),
+            versioned AS (
+                UPDATE Users SET data_version = data_version + 1
+                WHERE id = :userId AND EXISTS (SELECT 1 FROM shifted))
+            SELECT id FROM shifted""";
+    private static final String DELETE = """
+            WITH deleted AS (
+                DELETE FROM Reminders r %s
+                RETURNING r.id, r.status),
+            counted AS (
+                UPDATE user_reminder_counters c
+                SET total = c.total - (SELECT count(*) FROM deleted),
+                    pending = c.pending - (SELECT count(*) FROM deleted WHERE status = 'PENDING')
+                WHERE c.user_id = :userId AND EXISTS (SELECT 1 FROM deleted)),
+            versioned AS (
+                UPDATE Users SET data_version = data_version + 1
+                WHERE id = :userId AND EXISTS (SELECT 1 FROM deleted)),
+            tombstoned AS (
+                INSERT INTO reminder_tombstones (reminder_id, user_id, deleted_at)
+                SELECT id, :userId, :now FROM deleted
+                ON CONFLICT (reminder_id) DO UPDATE SET user_id = EXCLUDED.user_id, deleted_at = EXCLUDED.deleted_at)
+            SELECT id FROM deleted""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> rescheduleOwned(Long userId, ReminderFilter filter, Duration shift, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(RESCHEDULE.formatted(where(filter)), Long.class);
+        bind(query, userId, filter);
+        query.setParameter("shiftSeconds", shift.toSeconds());
+        query.setParameter("now", now);
+        return ids(query);
+    }
+
+    @Override
+    public List<Long> deleteOwned(Long userId, ReminderFilter filter, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(DELETE.formatted(where(filter)), Long.class);
+        bind(query, userId, filter);
+        query.setParameter("now", now);
+        return ids(query);
+    }
+
+    private static String where(ReminderFilter filter) {
+        StringBuilder where = new StringBuilder("WHERE r.user_id = :userId ");
+        if (filter.ids() != null && !filter.ids().isEmpty()) {
+            where.append("AND r.id IN (:ids) ");
+        }
+        if (filter.keywords() != null) {
+            for (int i = 0; i < filter.keywords().size(); i++) {
+                where.append("AND (lower(r.title) LIKE :keyword").append(i)
+                        .append(" OR lower(r.description) LIKE :keyword").append(i).append(") ");
+            }
+        }
+        if (filter.from() != null) {
+            where.append("AND r.remind >= :from ");
+        }
+        if (filter.toExclusive() != null) {
+            where.append("AND r.remind < :to ");
+        }
+        return where.toString();
+    }
+
+    private static void bind(Query query, Long userId, ReminderFilter filter) {
+        query.setParameter("userId", userId);
+        if (filter.ids() != null && !filter.ids().isEmpty()) {
+            query.setParameter("ids", filter.ids());
+        }
+        if (filter.keywords() != null) {
+            for (int i = 0; i < filter.keywords().size(); i++) {
+                query.setParameter("keyword" + i, "%" + filter.keywords().get(i).toLowerCase(Locale.ROOT) + "%");
+            }
+        }
+        if (filter.from() != null) {
+            query.setParameter("from", filter.from());
+        }
+        if (filter.toExclusive() != null) {
+            query.setParameter("to", filter.toExclusive());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> ids(Query query) {
+        return (List<Long>) query.getResultList();
+    }
+}
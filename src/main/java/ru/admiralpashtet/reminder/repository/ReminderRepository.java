@@ -1,14 +1,291 @@
 package ru.admiralpashtet.reminder.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.dto.projection.ReminderExportRow;
+import ru.admiralpashtet.reminder.dto.projection.ReminderTitle;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
 import ru.admiralpashtet.reminder.entity.Reminder;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ReminderRepository extends JpaRepository<Reminder, Long>, JpaSpecificationExecutor<Reminder> {
-    List<Reminder> findAllByRemindBetween(LocalDateTime from, LocalDateTime to);
-}
\ No newline at end of file
+public interface ReminderRepository extends JpaRepository<Reminder, Long>, JpaSpecificationExecutor<Reminder>,
+        ReminderSearchRepository, ReminderBulkRepository {
+    /**
+     * Данные пользователя для отправки забираются тем же запросом через join, без отдельного select на каждое
+     * напоминание и без загрузки управляемых сущностей.
+     */
+    String SELECT_DUE_REMINDER = """
+            SELECT new ru.admiralpashtet.reminder.dto.projection.DueReminder(
+                r.id, u.id, r.title, r.description, r.remind, u.reminderEmail, u.telegramData.chatId)
+            FROM Reminder r JOIN r.user u
+            """;
+    /**
+     * Выборки по диапазону remind читают только неотправленные строки и идут по частичному индексу
+     * reminders_pending_remind_idx, поэтому их стоимость не растет вместе с историей таблицы.
+     */
+    String PENDING = "ru.admiralpashtet.reminder.entity.ReminderStatus.PENDING ";
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Query(SELECT_DUE_REMINDER + "WHERE r.remind BETWEEN :from AND :to AND r.status = " + PENDING)
+    List<DueReminder> findDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(SELECT_DUE_REMINDER + "WHERE r.remind > :fromExclusive AND r.remind <= :toInclusive AND r.status = "
+            + PENDING)
+    List<DueReminder> findDueInWindow(@Param("fromExclusive") LocalDateTime fromExclusive,
+                                      @Param("toInclusive") LocalDateTime toInclusive);
+
+    /**
+     * Очередная пачка неотправленных напоминаний окна в порядке remind. Отправленные пачки отмечаются SENT
+     * и в следующую выборку не попадают, поэтому окно разбирается без смещения и без удержания курсора.
+     */
+    @Query(SELECT_DUE_REMINDER + "WHERE r.remind > :fromExclusive AND r.remind <= :toInclusive AND r.status = "
+            + PENDING + " ORDER BY r.remind")
+    List<DueReminder> findPendingInWindow(@Param("fromExclusive") LocalDateTime fromExclusive,
+                                          @Param("toInclusive") LocalDateTime toInclusive,
+                                          Limit limit);
+
+    @Query("SELECT count(r) FROM Reminder r WHERE r.remind > :fromExclusive AND r.remind <= :toInclusive AND r.status = "
+            + PENDING)
+    long countPendingInWindow(@Param("fromExclusive") LocalDateTime fromExclusive,
+                              @Param("toInclusive") LocalDateTime toInclusive);
+
+    @Query(SELECT_DUE_REMINDER + "WHERE r.id IN :ids")
+    List<DueReminder> findDueByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Страница без запроса count: общее число для списка без фильтров берется из user_reminder_counters.
+     */
+    List<Reminder> findAllByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Все напоминания пользователя для выгрузки. Stream читается курсором на сервере БД пачками по
+     * EXPORT_FETCH_SIZE строк, поэтому должен потребляться внутри транзакции и закрываться после чтения.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT new ru.admiralpashtet.reminder.dto.projection.ReminderExportRow("
+            + "r.id, r.title, r.description, r.remind, r.status) "
+            + "FROM Reminder r WHERE r.user.id = :userId ORDER BY r.remind, r.id")
+    Stream<ReminderExportRow> streamAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new ru.admiralpashtet.reminder.dto.projection.ReminderTitle(r.id, r.title) "
+            + "FROM Reminder r WHERE r.user.id = :userId")
+    List<ReminderTitle> findTitlesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Число напоминаний по дням одним запросом с группировкой. Приведение remind к date равносильно
+     * date_trunc('day', remind), диапазон читается по индексу reminders_user_remind_id_idx.
+     */
+    @Query("""
+            SELECT new ru.admiralpashtet.reminder.dto.response.CalendarDayResponse(cast(r.remind as LocalDate), count(r))
+            FROM Reminder r
+            WHERE r.user.id = :userId AND r.remind >= :from AND r.remind < :to
+            GROUP BY cast(r.remind as LocalDate)
+            ORDER BY cast(r.remind as LocalDate)""")
+    List<CalendarDayResponse> countByDay(@Param("userId") Long userId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    /**
+     * Изменения для синхронизации клиентов, читаются по индексу reminders_user_updated_at_idx.
+     */
+    @Query("SELECT r FROM Reminder r WHERE r.user.id = :userId AND r.updatedAt > :since AND r.updatedAt <= :until")
+    List<Reminder> findChanged(@Param("userId") Long userId,
+                               @Param("since") LocalDateTime since,
+                               @Param("until") LocalDateTime until);
+
+    @Query("SELECT r FROM Reminder r WHERE r.user.id = :userId AND r.updatedAt <= :until")
+    List<Reminder> findAllUpdatedUntil(@Param("userId") Long userId, @Param("until") LocalDateTime until);
+
+    /**
+     * Страницы ленты без OFFSET и count: следующая страница ищется сравнением строк (remind, id) с позицией
+     * курсора и читается по индексу reminders_user_remind_id_idx, поэтому ее стоимость не зависит от глубины.
+     */
+    @Query(value = """
+            SELECT * FROM Reminders
+            WHERE user_id = :userId
+            ORDER BY remind, id
+            LIMIT :limit""", nativeQuery = true)
+    List<Reminder> findFirstScrollAsc(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM Reminders
+            WHERE user_id = :userId
+              AND (remind, id) > (:remind, :id)
+            ORDER BY remind, id
+            LIMIT :limit""", nativeQuery = true)
+    List<Reminder> findNextScrollAsc(@Param("userId") Long userId,
+                                     @Param("remind") LocalDateTime remind,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM Reminders
+            WHERE user_id = :userId
+            ORDER BY remind DESC, id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<Reminder> findFirstScrollDesc(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM Reminders
+            WHERE user_id = :userId
+              AND (remind, id) < (:remind, :id)
+            ORDER BY remind DESC, id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<Reminder> findNextScrollDesc(@Param("userId") Long userId,
+                                      @Param("remind") LocalDateTime remind,
+                                      @Param("id") Long id,
+                                      @Param("limit") int limit);
+
+    /**
+     * Блокирует пачку наступивших, еще не отправленных и не арендованных другим узлом напоминаний.
+     * SKIP LOCKED позволяет нескольким узлам забирать непересекающиеся пачки, не дожидаясь друг друга.
+     */
+    @Query(value = """
+            SELECT id FROM Reminders
+            WHERE remind <= :now
+              AND remind > :notBefore
+              AND status = 'PENDING'
+              AND (lease_until IS NULL OR lease_until < :now)
+            ORDER BY remind
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") LocalDateTime now,
+                          @Param("notBefore") LocalDateTime notBefore,
+                          @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query(value = "UPDATE Reminders SET lease_owner = :owner, lease_until = :leaseUntil WHERE id IN (:ids)",
+            nativeQuery = true)
+    int lease(@Param("ids") List<Long> ids,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Смена статуса и счетчики user_reminder_counters меняются одним запросом: счетчик уменьшается ровно
+     * на число строк, которые этот запрос перевел в SENT.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH sent AS (
+                UPDATE Reminders SET status = 'SENT', sent_at = :sentAt, lease_owner = NULL, lease_until = NULL
+                WHERE id IN (:ids) AND lease_owner = :owner AND status = 'PENDING'
+                RETURNING user_id)
+            UPDATE user_reminder_counters c SET pending = c.pending - s.sent
+            FROM (SELECT user_id, count(*) AS sent FROM sent GROUP BY user_id) s
+            WHERE c.user_id = s.user_id""", nativeQuery = true)
+    int markSent(@Param("ids") List<Long> ids,
+                 @Param("owner") String owner,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH sent AS (
+                UPDATE Reminders SET status = 'SENT', sent_at = :sentAt
+                WHERE id IN (:ids) AND status = 'PENDING'
+                RETURNING user_id)
+            UPDATE user_reminder_counters c SET pending = c.pending - s.sent
+            FROM (SELECT user_id, count(*) AS sent FROM sent GROUP BY user_id) s
+            WHERE c.user_id = s.user_id""", nativeQuery = true)
+    int markSent(@Param("ids") List<Long> ids,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Напоминания, которые планировщик уже не отправит, переводятся в EXPIRED и покидают частичный индекс
+     * ожидающих. Счетчик ожидающих уменьшается на число переведенных строк, как и при отметке отправки.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            WITH expired AS (
+                UPDATE Reminders SET status = 'EXPIRED', lease_owner = NULL, lease_until = NULL
+                WHERE remind < :before AND status = 'PENDING'
+                RETURNING user_id)
+            UPDATE user_reminder_counters c SET pending = c.pending - s.expired
+            FROM (SELECT user_id, count(*) AS expired FROM expired GROUP BY user_id) s
+            WHERE c.user_id = s.user_id""", nativeQuery = true)
+    int expirePendingBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Изменение напоминания владельца одним запросом: пустые поля запроса не меняются, перенос срока в будущее
+     * снова ставит напоминание в ожидание отправки, а перенос в прошлое статус не меняет, чтобы доставленное
+     * не ушло повторно. Прежние срок и статус читаются под блокировкой строки, счетчик ожидающих растет,
+     * только если напоминание уже было отправлено или просрочено. Версия данных пользователя увеличивается в том же запросе.
+     * Чужое или несуществующее напоминание не меняется, и результат пуст.
+     */
+    @Query(value = """
+            WITH previous AS (
+                SELECT id, status, CAST(:remind AS TIMESTAMP) <> remind AND CAST(:remind AS TIMESTAMP) > :now AS rearm
+                FROM Reminders WHERE id = :id AND user_id = :userId FOR UPDATE),
+            updated AS (
+                UPDATE Reminders r
+                SET title = COALESCE(CAST(:title AS VARCHAR), r.title),
+                    description = COALESCE(CAST(:description AS VARCHAR), r.description),
+                    remind = COALESCE(CAST(:remind AS TIMESTAMP), r.remind),
+                    status = CASE WHEN p.rearm THEN 'PENDING' ELSE r.status END,
+                    sent_at = CASE WHEN p.rearm THEN NULL ELSE r.sent_at END,
+                    lease_owner = CASE WHEN p.rearm THEN NULL ELSE r.lease_owner END,
+                    lease_until = CASE WHEN p.rearm THEN NULL ELSE r.lease_until END,
+                    updated_at = :now
+                FROM previous p
+                WHERE r.id = p.id
+                RETURNING r.id, r.title, r.description, r.remind, r.user_id, r.status, r.updated_at,
+                    p.status AS previous_status),
+            counted AS (
+                UPDATE user_reminder_counters c SET pending = c.pending + 1
+                FROM updated u
+                WHERE c.user_id = u.user_id AND u.previous_status <> 'PENDING' AND u.status = 'PENDING'),
+            versioned AS (
+                UPDATE Users SET data_version = data_version + 1
+                WHERE id = :userId AND EXISTS (SELECT 1 FROM updated))
+            SELECT id, title, description, remind, user_id, status, updated_at FROM updated""", nativeQuery = true)
+    Optional<Reminder> updateOwned(@Param("id") Long id,
+                                   @Param("userId") Long userId,
+                                   @Param("title") String title,
+                                   @Param("description") String description,
+                                   @Param("remind") LocalDateTime remind,
+                                   @Param("now") LocalDateTime now);
+
+    /**
+     * Удаление напоминания владельца одним запросом. Счетчики уменьшаются по статусу удаленной строки:
+     * планировщик мог отметить ее отправленной между запросами клиента. В том же запросе пишется tombstone
+     * для синхронизации и увеличивается версия данных. Возвращает число удаленных напоминаний.
+     */
+    @Modifying
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM Reminders WHERE id = :id AND user_id = :userId
+                RETURNING id, user_id, status),
+            counted AS (
+                UPDATE user_reminder_counters c
+                SET total = c.total - 1,
+                    pending = c.pending - CASE WHEN d.status = 'PENDING' THEN 1 ELSE 0 END
+                FROM deleted d
+                WHERE c.user_id = d.user_id),
+            versioned AS (
+                UPDATE Users SET data_version = data_version + 1
+                WHERE id = :userId AND EXISTS (SELECT 1 FROM deleted))
+            INSERT INTO reminder_tombstones (reminder_id, user_id, deleted_at)
+            SELECT id, user_id, :now FROM deleted
+            ON CONFLICT (reminder_id) DO UPDATE SET user_id = EXCLUDED.user_id, deleted_at = EXCLUDED.deleted_at""",
+            nativeQuery = true)
+    int deleteOwned(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package ru.admiralpashtet.reminder.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.search.CountMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReminderSearchRepository {
+    Page<Reminder> searchFullText(Long userId, String query, LocalDateTime from, LocalDateTime to, Pageable pageable,
+                                  CountMode countMode);
+
+    Page<Reminder> searchFuzzy(Long userId, String query, LocalDateTime from, LocalDateTime to, Pageable pageable,
+                               CountMode countMode);
+
+    /**
+     * Страница без запроса count. Общее число в ней - нижняя граница: смещение, размер страницы
+     * и еще одна запись, если следующая страница существует.
+     */
+    Page<Reminder> findAllWithoutCount(Specification<Reminder> specification, Pageable pageable);
+
+    /**
+     * Оценка планировщика для числа строк поиска по ключевым словам, те же условия, что и у
+     * {@link ru.admiralpashtet.reminder.repository.specification.ReminderSpecification#hasKeywords}.
+     */
+    long estimateKeywordsCount(Long userId, List<String> keywords, LocalDateTime from, LocalDateTime to);
+}
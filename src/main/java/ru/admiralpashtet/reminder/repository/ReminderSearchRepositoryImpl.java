@@ -0,0 +1,185 @@
+package ru.admiralpashtet.reminder.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.search.CountMode;
+import ru.admiralpashtet.reminder.sort.SortCondition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Поиск через индексы, недоступные в JPQL: полнотекстовый по сгенерированной колонке search_vector (GIN)
+ * и нечеткий по триграммам lower(title) и lower(description) (GIN pg_trgm). Запросы нативные,
+ * сортировка собирается только из известных колонок. Здесь же страницы без запроса count
+ * и оценка числа строк по плану запроса.
+ */
+public class ReminderSearchRepositoryImpl implements ReminderSearchRepository {
+    private static final String FULL_TEXT_FROM_WHERE = """
+            FROM Reminders r, websearch_to_tsquery('russian', :query) q
+            WHERE r.user_id = :userId
+              AND r.search_vector @@ q
+            """;
+    private static final String FULL_TEXT_RELEVANCE = "ts_rank(r.search_vector, q)";
+    /**
+     * Оператор <% (word_similarity выше pg_trgm.word_similarity_threshold, по умолчанию 0.6) ищет запрос
+     * как похожий фрагмент текста и, в отличие от вызова функции, использует триграммный индекс.
+     */
+    private static final String FUZZY_FROM_WHERE = """
+            FROM Reminders r, lower(:query) q
+            WHERE r.user_id = :userId
+              AND (q <% lower(r.title) OR q <% lower(r.description))
+            """;
+    private static final String FUZZY_RELEVANCE =
+            "greatest(word_similarity(q, lower(r.title)), word_similarity(q, lower(coalesce(r.description, ''))))";
+    private static final String REMIND_FROM = "AND r.remind >= :from ";
+    private static final String REMIND_TO = "AND r.remind <= :to ";
+    private static final String EXPLAIN = "EXPLAIN SELECT 1 ";
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+    private static final Map<SortCondition, String> ORDER_COLUMNS = Map.of(
+            SortCondition.TITLE, "r.title",
+            SortCondition.DESCRIPTION, "r.description",
+            SortCondition.REMIND, "r.remind");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Reminder> searchFullText(Long userId, String query, LocalDateTime from, LocalDateTime to,
+                                         Pageable pageable, CountMode countMode) {
+        return search(FULL_TEXT_FROM_WHERE, FULL_TEXT_RELEVANCE, userId, query, from, to, pageable, countMode);
+    }
+
+    @Override
+    public Page<Reminder> searchFuzzy(Long userId, String query, LocalDateTime from, LocalDateTime to,
+                                      Pageable pageable, CountMode countMode) {
+        return search(FUZZY_FROM_WHERE, FUZZY_RELEVANCE, userId, query, from, to, pageable, countMode);
+    }
+
+    @Override
+    public Page<Reminder> findAllWithoutCount(Specification<Reminder> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Reminder> query = criteriaBuilder.createQuery(Reminder.class);
+        Root<Reminder> root = query.from(Reminder.class);
+        query.select(root)
+                .where(specification.toPredicate(root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        List<Reminder> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        return withoutCount(rows, pageable);
+    }
+
+    @Override
+    public long estimateKeywordsCount(Long userId, List<String> keywords, LocalDateTime from, LocalDateTime to) {
+        StringBuilder where = new StringBuilder("FROM Reminders r WHERE r.user_id = :userId ");
+        for (int i = 0; i < keywords.size(); i++) {
+            where.append("AND (lower(r.title) LIKE :keyword").append(i)
+                    .append(" OR lower(r.description) LIKE :keyword").append(i).append(") ");
+        }
+        where.append(remindRange(from, to));
+        Query explain = entityManager.createNativeQuery(EXPLAIN + where);
+        explain.setParameter("userId", userId);
+        for (int i = 0; i < keywords.size(); i++) {
+            explain.setParameter("keyword" + i, "%" + keywords.get(i).toLowerCase() + "%");
+        }
+        bindRange(explain, from, to);
+        return estimatedRows(explain);
+    }
+
+    /**
+     * В режиме ESTIMATED запрос count заменяется оценкой планировщика, кроме последней страницы:
+     * там точное число известно и так.
+     */
+    @SuppressWarnings("unchecked")
+    private Page<Reminder> search(String fromWhere, String relevance, Long userId, String searchQuery,
+                                  LocalDateTime from, LocalDateTime to, Pageable pageable, CountMode countMode) {
+        String where = fromWhere + remindRange(from, to);
+        Query select = entityManager.createNativeQuery(
+                "SELECT r.* " + where + "ORDER BY " + orderBy(pageable.getSort(), relevance), Reminder.class);
+        bind(select, userId, searchQuery, from, to);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(countMode == CountMode.EXACT ? pageable.getPageSize() : pageable.getPageSize() + 1);
+        List<Reminder> rows = select.getResultList();
+
+        if (countMode != CountMode.EXACT) {
+            Page<Reminder> slice = withoutCount(rows, pageable);
+            if (countMode == CountMode.NONE || !slice.hasNext()) {
+                return slice;
+            }
+            Query explain = entityManager.createNativeQuery(EXPLAIN + where);
+            bind(explain, userId, searchQuery, from, to);
+            return new PageImpl<>(slice.getContent(), pageable,
+                    Math.max(estimatedRows(explain), slice.getTotalElements()));
+        }
+
+        Query count = entityManager.createNativeQuery("SELECT count(*) " + where);
+        bind(count, userId, searchQuery, from, to);
+        long total = ((Number) count.getSingleResult()).longValue();
+
+        return new PageImpl<>(rows, pageable, total);
+    }
+
+    private static Page<Reminder> withoutCount(List<Reminder> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Reminder> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+    }
+
+    /**
+     * Первая строка текстового плана описывает верхний узел, его rows - ожидаемое число строк всего запроса.
+     */
+    private static long estimatedRows(Query explain) {
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(explain.getResultList().get(0)));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static void bind(Query query, Long userId, String searchQuery, LocalDateTime from, LocalDateTime to) {
+        query.setParameter("userId", userId);
+        query.setParameter("query", searchQuery);
+        bindRange(query, from, to);
+    }
+
+    /**
+     * Границы добавляются в запрос только заданные: null нельзя передать параметром без явного типа.
+     */
+    private static String remindRange(LocalDateTime from, LocalDateTime to) {
+        return (from != null ? REMIND_FROM : "") + (to != null ? REMIND_TO : "");
+    }
+
+    private static void bindRange(Query query, LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+    }
+
+    private static String orderBy(Sort sort, String relevance) {
+        String orders = sort.stream()
+                .map(order -> {
+                    SortCondition condition = SortCondition.valueOf(order.getProperty().toUpperCase());
+                    String column = condition == SortCondition.RELEVANCE ? relevance : ORDER_COLUMNS.get(condition);
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", "));
+        return orders.isEmpty() ? "r.id" : orders + ", r.id";
+    }
+}
@@ -0,0 +1,27 @@
+package ru.admiralpashtet.reminder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.entity.ReminderTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ReminderTombstoneRepository extends JpaRepository<ReminderTombstone, Long> {
+    @Query("""
+            SELECT t.reminderId FROM ReminderTombstone t
+            WHERE t.userId = :userId AND t.deletedAt > :since AND t.deletedAt <= :until""")
+    List<Long> findDeletedIds(@Param("userId") Long userId,
+                              @Param("since") LocalDateTime since,
+                              @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReminderTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
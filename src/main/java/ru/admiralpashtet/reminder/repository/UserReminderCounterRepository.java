@@ -0,0 +1,21 @@
+package ru.admiralpashtet.reminder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.admiralpashtet.reminder.entity.UserReminderCounter;
+
+@Repository
+public interface UserReminderCounterRepository extends JpaRepository<UserReminderCounter, Long> {
+    /**
+     * Новые напоминания всегда создаются в статусе PENDING. Строка счетчика заводится при первом напоминании.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_reminder_counters AS c (user_id, total, pending) VALUES (:userId, :created, :created)
+            ON CONFLICT (user_id) DO UPDATE SET total = c.total + :created, pending = c.pending + :created""",
+            nativeQuery = true)
+    int incrementCreated(@Param("userId") Long userId, @Param("created") int created);
+}
@@ -1,6 +1,9 @@
 package ru.admiralpashtet.reminder.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.admiralpashtet.reminder.entity.User;
 
@@ -10,4 +13,11 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByTelegramDataUsername(String telegramUserName);
+
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE Users SET data_version = data_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") Long id);
 }
@@ -41,6 +41,19 @@ public class ReminderSpecification {
         };
     }
 
+    public static Specification<Reminder> hasRemindBetween(LocalDate from, LocalDate to) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (from != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("remind"), from.atStartOfDay()));
+            }
+            if (to != null) {
+                predicates.add(criteriaBuilder.lessThan(root.get("remind"), to.plusDays(1).atStartOfDay()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
     public static Specification<Reminder> hasKeywords(String searchQuery) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
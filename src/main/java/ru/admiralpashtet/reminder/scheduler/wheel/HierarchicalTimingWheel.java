@@ -0,0 +1,144 @@
+package ru.admiralpashtet.reminder.scheduler.wheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Иерархическое колесо таймеров. Уровень 0 делится на wheelSize слотов по tickMillis, каждый следующий уровень
+ * в wheelSize раз грубее предыдущего. Добавление и отмена выполняются за O(1), продвижение времени - за O(1)
+ * на тик плюс стоимость перекладывания записей с верхних уровней на нижние.
+ * <p/>
+ * Класс не потокобезопасен, синхронизация - на стороне вызывающего кода.
+ *
+ * @param <K> ключ записи (повторное добавление по тому же ключу заменяет запись)
+ * @param <V> полезная нагрузка, возвращаемая при срабатывании
+ */
+public class HierarchicalTimingWheel<K, V> {
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelUnits;
+    private final Map<K, Entry<K, V>>[][] buckets;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Tick must be positive, wheel size at least 2 and levels at least 1");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelUnits = new long[levels];
+        this.buckets = new Map[levels][wheelSize];
+
+        long unit = 1;
+        for (int level = 0; level < levels; level++) {
+            levelUnits[level] = unit;
+            unit = Math.multiplyExact(unit, wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = new HashMap<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Планирует запись на deadlineMillis. Если срок уже наступил, запись сработает на ближайшем тике.
+     */
+    public void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        Entry<K, V> entry = new Entry<>(key, value, Math.max(deadlineMillis / tickMillis, currentTick + 1));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    public V cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        buckets[entry.level][entry.slot].remove(key);
+        return entry.value;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    /**
+     * Продвигает колесо до nowMillis и возвращает все записи, срок которых наступил, в порядке срабатывания.
+     */
+    public List<V> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<V> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Map<K, Entry<K, V>> bucket = buckets[0][slotOf(currentTick, 0)];
+            for (Entry<K, V> entry : bucket.values()) {
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+            bucket.clear();
+        }
+        return expired;
+    }
+
+    /**
+     * Когда текущий тик пересекает границу слота верхнего уровня, записи этого слота перекладываются ниже.
+     * Идем сверху вниз, чтобы запись могла за один тик опуститься сразу на несколько уровней.
+     */
+    private void cascade() {
+        for (int level = levelUnits.length - 1; level > 0; level--) {
+            if (currentTick % levelUnits[level] != 0) {
+                continue;
+            }
+            Map<K, Entry<K, V>> bucket = buckets[level][slotOf(currentTick, level)];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            List<Entry<K, V>> moved = new ArrayList<>(bucket.values());
+            bucket.clear();
+            moved.forEach(this::place);
+        }
+    }
+
+    private void place(Entry<K, V> entry) {
+        long delta = entry.tick - currentTick;
+        int level = 0;
+        while (level < levelUnits.length - 1 && delta >= levelUnits[level] * wheelSize) {
+            level++;
+        }
+        entry.level = level;
+        entry.slot = slotOf(entry.tick, level);
+        buckets[level][entry.slot].put(entry.key, entry);
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick / levelUnits[level]) % wheelSize);
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long tick;
+        private int level;
+        private int slot;
+
+        private Entry(K key, V value, long tick) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package ru.admiralpashtet.reminder.search;
+
+public enum CountMode {
+    EXACT, ESTIMATED, NONE
+}
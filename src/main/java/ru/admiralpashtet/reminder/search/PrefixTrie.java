@@ -0,0 +1,105 @@
+package ru.admiralpashtet.reminder.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Префиксное дерево слов с числом вхождений. Добавление и удаление выполняются за O(длина слова),
+ * дополнение префикса обходит только его поддерево и возвращает самые частые слова.
+ * <p/>
+ * Класс не потокобезопасен, синхронизация - на стороне вызывающего кода.
+ */
+public class PrefixTrie {
+    private static final Comparator<Map.Entry<String, Integer>> BY_FREQUENCY =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final Node root = new Node();
+
+    public void add(String word) {
+        Node node = root;
+        node.occurrences++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), key -> new Node());
+            node.occurrences++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Узлы, под которыми не осталось слов, удаляются сразу, чтобы дерево не росло от правок заголовков.
+     */
+    public void remove(String word) {
+        if (count(word) == 0) {
+            return;
+        }
+        Node node = root;
+        node.occurrences--;
+        for (int i = 0; i < word.length(); i++) {
+            Node child = node.children.get(word.charAt(i));
+            if (--child.occurrences == 0) {
+                node.children.remove(word.charAt(i));
+                return;
+            }
+            node = child;
+        }
+        node.count--;
+    }
+
+    public int count(String word) {
+        Node node = find(word);
+        return node == null ? 0 : node.count;
+    }
+
+    public boolean isEmpty() {
+        return root.occurrences == 0;
+    }
+
+    /**
+     * Слова с заданным префиксом по убыванию числа вхождений, при равенстве - по алфавиту.
+     */
+    public List<String> complete(String prefix, int limit) {
+        Node node = find(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Map.Entry<String, Integer>> top = new PriorityQueue<>(BY_FREQUENCY.reversed());
+        collect(node, new StringBuilder(prefix), top, limit);
+
+        List<String> words = new ArrayList<>(top.size());
+        top.stream().sorted(BY_FREQUENCY).forEach(entry -> words.add(entry.getKey()));
+        return words;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collect(Node node, StringBuilder word, PriorityQueue<Map.Entry<String, Integer>> top,
+                                int limit) {
+        if (node.count > 0) {
+            top.add(Map.entry(word.toString(), node.count));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            word.append(child.getKey());
+            collect(child.getValue(), word, top, limit);
+            word.setLength(word.length() - 1);
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private int occurrences;
+        private int count;
+    }
+}
@@ -0,0 +1,25 @@
+package ru.admiralpashtet.reminder.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Условия отбора напоминаний пользователя для массовых операций. Пустые условия не применяются,
+ * заданные объединяются через AND.
+ *
+ * @param ids         идентификаторы напоминаний
+ * @param keywords    слова, каждое из которых должно быть в заголовке или описании
+ * @param from        начало диапазона remind включительно
+ * @param toExclusive конец диапазона remind не включительно
+ */
+public record ReminderFilter(
+        List<Long> ids,
+        List<String> keywords,
+        LocalDateTime from,
+        LocalDateTime toExclusive) {
+
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty()) && (keywords == null || keywords.isEmpty())
+                && from == null && toExclusive == null;
+    }
+}
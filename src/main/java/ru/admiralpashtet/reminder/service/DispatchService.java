@@ -0,0 +1,9 @@
+package ru.admiralpashtet.reminder.service;
+
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+
+import java.util.List;
+
+public interface DispatchService {
+    void dispatch(List<DueReminder> reminders);
+}
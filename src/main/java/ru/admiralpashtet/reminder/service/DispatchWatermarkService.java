@@ -0,0 +1,10 @@
+package ru.admiralpashtet.reminder.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface DispatchWatermarkService {
+    Optional<LocalDateTime> find(String name);
+
+    void advance(String name, LocalDateTime dispatchedUntil);
+}
@@ -0,0 +1,10 @@
+package ru.admiralpashtet.reminder.service;
+
+import ru.admiralpashtet.reminder.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void export(Long userId, ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -1,7 +1,10 @@
 package ru.admiralpashtet.reminder.service;
 
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
 
 public interface NotificationSenderService {
-    void sendNotification(Reminder reminder);
+    void sendNotification(DueReminder reminder);
+
+    NotificationChannel getChannel();
 }
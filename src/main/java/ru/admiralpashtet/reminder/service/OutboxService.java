@@ -0,0 +1,21 @@
+package ru.admiralpashtet.reminder.service;
+
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
+import ru.admiralpashtet.reminder.entity.NotificationOutbox;
+
+import java.util.List;
+
+public interface OutboxService {
+    void enqueue(List<DueReminder> reminders);
+
+    List<NotificationOutbox> claim(NotificationChannel channel, int batchSize);
+
+    void markDelivered(List<Long> outboxIds);
+
+    void markFailed(Long outboxId, String error);
+
+    void markDiscarded(List<Long> outboxIds);
+
+    void purgeFinished();
+}
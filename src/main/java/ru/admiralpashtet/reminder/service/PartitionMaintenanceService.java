@@ -0,0 +1,5 @@
+package ru.admiralpashtet.reminder.service;
+
+public interface PartitionMaintenanceService {
+    void maintain();
+}
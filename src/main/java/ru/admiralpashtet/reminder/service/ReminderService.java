@@ -1,21 +1,57 @@
 package ru.admiralpashtet.reminder.service;
 
 import org.springframework.data.domain.Page;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.dto.request.ReminderFilterRequest;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.ScrollRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.response.ScrollResponse;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReminderService {
     ReminderResponse create(ReminderRequest reminderRequest, Long userId);
 
+    List<ReminderResponse> createAll(List<ReminderRequest> reminderRequests, Long userId);
+
     Page<ReminderResponse> findAll(Long userId, SearchRequest searchRequest);
 
+    ScrollResponse<ReminderResponse> scroll(Long userId, ScrollRequest scrollRequest);
+
+    List<CalendarDayResponse> countByDay(Long userId, LocalDate from, LocalDate to);
+
+    List<String> suggest(Long userId, String prefix, int limit);
+
     ReminderResponse update(ReminderRequest reminderRequest, Long reminderId, Long userId);
 
     void deleteById(Long reminderId, Long userId);
 
-    List<Reminder> findAllByLocalDateTimeNow();
+    int rescheduleAll(Long userId, ReminderFilterRequest filterRequest, Duration shift);
+
+    int deleteAll(Long userId, ReminderFilterRequest filterRequest);
+
+    List<DueReminder> findAllByLocalDateTimeNow();
+
+    List<DueReminder> findPendingInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive, int limit);
+
+    long countPendingInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive);
+
+    List<DueReminder> findAllDueByIds(Collection<Long> reminderIds);
+
+    List<DueReminder> findAllByRemindInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive);
+
+    List<DueReminder> claimDueReminders(String owner, Duration lease, Duration maxLateness, int batchSize);
+
+    void markSent(List<Long> reminderIds);
+
+    void markSent(List<Long> reminderIds, String owner);
+
+    void expirePendingBefore(LocalDateTime before);
 }
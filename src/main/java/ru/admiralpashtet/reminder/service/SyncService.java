@@ -0,0 +1,9 @@
+package ru.admiralpashtet.reminder.service;
+
+import ru.admiralpashtet.reminder.dto.response.ChangesResponse;
+
+public interface SyncService {
+    ChangesResponse findChanges(Long userId, String since);
+
+    void purgeTombstones();
+}
@@ -15,5 +15,7 @@ public interface UserService {
 
     UserResponse findById(Long userId);
 
+    long findDataVersion(Long userId);
+
     void deleteById(Long userId);
 }
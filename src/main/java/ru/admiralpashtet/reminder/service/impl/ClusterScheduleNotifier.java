@@ -0,0 +1,72 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.ReminderService;
+import ru.admiralpashtet.reminder.service.ScheduleService;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Планировщик для запуска в несколько реплик. Каждый узел арендует непересекающиеся пачки наступивших
+ * напоминаний (SELECT ... FOR UPDATE SKIP LOCKED + lease_owner/lease_until), отправляет их и отмечает sent_at.
+ * Если узел упал, не успев отметить отправку, аренда истекает и пачку забирает другой узел. Напоминания,
+ * опоздавшие больше чем на max-lateness-minutes, уже не арендуются и отмечаются EXPIRED.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "schedule.notifier.mode", havingValue = "cluster")
+public class ClusterScheduleNotifier implements ScheduleService {
+    private final ReminderService reminderService;
+    private final DispatchService dispatchService;
+    private final Duration lease;
+    private final Duration maxLateness;
+    private final int batchSize;
+    private final String nodeId;
+
+    public ClusterScheduleNotifier(ReminderService reminderService,
+                                   DispatchService dispatchService,
+                                   @Value("${schedule.cluster.lease-seconds}") long leaseSeconds,
+                                   @Value("${schedule.cluster.max-lateness-minutes}") long maxLatenessMinutes,
+                                   @Value("${schedule.cluster.batch-size}") int batchSize) {
+        this.reminderService = reminderService;
+        this.dispatchService = dispatchService;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxLateness = Duration.ofMinutes(maxLatenessMinutes);
+        this.batchSize = batchSize;
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${schedule.cluster.poll-millis}")
+    public void doNotify() {
+        reminderService.expirePendingBefore(LocalDateTime.now().minus(maxLateness));
+        List<DueReminder> batch;
+        do {
+            batch = reminderService.claimDueReminders(nodeId, lease, maxLateness, batchSize);
+            if (!batch.isEmpty()) {
+                dispatchService.dispatch(batch);
+                reminderService.markSent(batch.stream().map(DueReminder::id).toList(), nodeId);
+                log.info("Node {} dispatched a batch of {} reminders", nodeId, batch.size());
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.admiralpashtet.reminder.entity.DispatchWatermark;
+import ru.admiralpashtet.reminder.repository.DispatchWatermarkRepository;
+import ru.admiralpashtet.reminder.service.DispatchWatermarkService;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class DispatchWatermarkServiceImpl implements DispatchWatermarkService {
+    private final DispatchWatermarkRepository watermarkRepository;
+
+    @Override
+    public Optional<LocalDateTime> find(String name) {
+        return watermarkRepository.findById(name).map(DispatchWatermark::getDispatchedUntil);
+    }
+
+    @Override
+    public void advance(String name, LocalDateTime dispatchedUntil) {
+        watermarkRepository.save(new DispatchWatermark(name, dispatchedUntil));
+    }
+}
@@ -6,7 +6,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
 import ru.admiralpashtet.reminder.service.NotificationSenderService;
 
 @Slf4j
@@ -18,26 +19,31 @@ public class EmailNotificationSenderService implements NotificationSenderService
     private final JavaMailSender mailSender;
 
     @Override
-    public void sendNotification(Reminder reminder) {
+    public void sendNotification(DueReminder reminder) {
         SimpleMailMessage message = createMessage(reminder);
         if (message != null) {
             mailSender.send(message);
-            log.info("Reminder with id {} was sent successfully by email", reminder.getId());
+            log.info("Reminder with id {} was sent successfully by email", reminder.id());
         }
     }
 
-    private SimpleMailMessage createMessage(Reminder reminder) {
-        String email = reminder.getUser().getReminderEmail();
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    private SimpleMailMessage createMessage(DueReminder reminder) {
+        String email = reminder.reminderEmail();
         if (email == null) {
             log.warn("Reminder email is not set for user with id {}. The letter will not be sent.",
-                    reminder.getUser().getId());
+                    reminder.userId());
             return null;
         }
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(from);
         message.setTo(email);
-        message.setSubject("Reminder: " + reminder.getTitle());
-        message.setText(reminder.getDescription());
+        message.setSubject("Reminder: " + reminder.title());
+        message.setText(reminder.description());
         return message;
     }
 }
\ No newline at end of file
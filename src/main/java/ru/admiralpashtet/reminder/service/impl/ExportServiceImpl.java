@@ -0,0 +1,86 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.dto.projection.ReminderExportRow;
+import ru.admiralpashtet.reminder.export.ExportFormat;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.service.ExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Выгрузка всех напоминаний пользователя. Строки пишутся в ответ по мере чтения курсора, без страниц
+ * и запросов count, так что память сервера не зависит от числа напоминаний. Курсор PostgreSQL живет
+ * только внутри транзакции, поэтому она открыта на все время записи.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+    private static final String CSV_HEADER = "id,title,description,remind,status";
+    private static final String CSV_LINE_SEPARATOR = "\r\n";
+    private static final DateTimeFormatter CSV_REMIND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ReminderRepository reminderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long userId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write(CSV_LINE_SEPARATOR);
+        }
+        try (Stream<ReminderExportRow> rows = reminderRepository.streamAllByUserId(userId)) {
+            Iterator<ReminderExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReminderExportRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsv(Writer writer, ReminderExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(csvField(row.title()));
+        writer.write(',');
+        writer.write(csvField(row.description()));
+        writer.write(',');
+        writer.write(row.remind() != null ? CSV_REMIND_FORMAT.format(row.remind()) : "");
+        writer.write(',');
+        writer.write(row.status() != null ? row.status().name() : "");
+        writer.write(CSV_LINE_SEPARATOR);
+    }
+
+    /**
+     * Экранирование по RFC 4180: поле с запятой, кавычкой или переводом строки берется в кавычки,
+     * кавычки внутри удваиваются.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
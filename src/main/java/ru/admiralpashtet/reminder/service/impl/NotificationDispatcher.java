@@ -0,0 +1,103 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.exception.DispatchInterruptedException;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.NotificationSenderService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Рассылает напоминания по всем каналам параллельно на виртуальных потоках. Каждая отправка изолирована:
+ * исключение или таймаут одного канала не прерывает остальные отправки пачки, ошибки собираются и логируются.
+ * Количество одновременных отправок ограничено, чтобы не открывать тысячи соединений к SMTP и Telegram разом.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "direct", matchIfMissing = true)
+public class NotificationDispatcher implements DispatchService {
+    private final List<NotificationSenderService> senders;
+    private final Semaphore permits;
+    private final Duration sendTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationDispatcher(List<NotificationSenderService> senders,
+                                  @Value("${notification.dispatch.max-concurrency}") int maxConcurrency,
+                                  @Value("${notification.dispatch.send-timeout-seconds}") long sendTimeoutSeconds) {
+        this.senders = senders;
+        this.permits = new Semaphore(maxConcurrency);
+        this.sendTimeout = Duration.ofSeconds(sendTimeoutSeconds);
+    }
+
+    /**
+     * Прерванная рассылка дожидается уже начатых отправок и бросает исключение, чтобы вызывающий не отметил
+     * отправленной всю пачку: неотправленные напоминания остаются в БД и уходят при следующем запуске.
+     */
+    @Override
+    public void dispatch(List<DueReminder> reminders) {
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> sends = new ArrayList<>(reminders.size() * senders.size());
+        InterruptedException interrupted = null;
+        try {
+            for (DueReminder reminder : reminders) {
+                for (NotificationSenderService sender : senders) {
+                    permits.acquire();
+                    sends.add(send(sender, reminder, failures));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = e;
+        }
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).join();
+        if (interrupted != null) {
+            throw new DispatchInterruptedException("Dispatch was interrupted after " + sends.size() + " of "
+                    + reminders.size() * senders.size() + " notification sends", interrupted);
+        }
+
+        if (failures.get() > 0) {
+            log.warn("{} of {} notification sends failed", failures.get(), sends.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * Разрешение возвращается по завершении самой отправки, а не по таймауту: зависшее соединение продолжает
+     * занимать слот, пока не отвалится по таймаутам клиента. Таймаут ставится на копию, чтобы не завершить
+     * раньше времени саму отправку.
+     */
+    private CompletableFuture<Void> send(NotificationSenderService sender, DueReminder reminder, AtomicInteger failures) {
+        CompletableFuture<Void> send = CompletableFuture.runAsync(() -> {
+            try {
+                sender.sendNotification(reminder);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+        return send.copy()
+                .orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(exception -> {
+                    failures.incrementAndGet();
+                    log.error("Reminder with id {} was not sent by {}: {}", reminder.id(),
+                            sender.getClass().getSimpleName(), exception.toString());
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,28 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.OutboxService;
+
+import java.util.List;
+
+/**
+ * Вместо прямой отправки записывает наступившие напоминания в notification_outbox.
+ * Дальше каждый канал разбирает свою очередь независимо, см. {@link OutboxWorkers}.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "outbox")
+public class OutboxDispatcher implements DispatchService {
+    private final OutboxService outboxService;
+
+    @Override
+    public void dispatch(List<DueReminder> reminders) {
+        if (!reminders.isEmpty()) {
+            outboxService.enqueue(reminders);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
+import ru.admiralpashtet.reminder.entity.NotificationOutbox;
+import ru.admiralpashtet.reminder.repository.NotificationOutboxRepository;
+import ru.admiralpashtet.reminder.service.OutboxService;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+    /**
+     * Повторная запись того же напоминания на тот же срок (переаренда в кластере, повторный тик) игнорируется.
+     */
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox (reminder_id, channel, due_at, status, attempts, available_at, created_at)
+            VALUES (?, ?, ?, 'PENDING', 0, ?, ?)
+            ON CONFLICT (reminder_id, channel, due_at) DO NOTHING""";
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    public OutboxServiceImpl(NotificationOutboxRepository outboxRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${notification.outbox.lease-seconds}") long leaseSeconds,
+                             @Value("${notification.outbox.retry-delay-seconds}") long retryDelaySeconds,
+                             @Value("${notification.outbox.max-attempts}") int maxAttempts,
+                             @Value("${notification.outbox.retention-days}") long retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(List<DueReminder> reminders) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(reminders.size() * NotificationChannel.values().length);
+        for (DueReminder reminder : reminders) {
+            for (NotificationChannel channel : NotificationChannel.values()) {
+                rows.add(new Object[]{reminder.id(), channel.name(), Timestamp.valueOf(reminder.remind()), now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    @Transactional
+    public List<NotificationOutbox> claim(NotificationChannel channel, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = outboxRepository.lockPending(channel.name(), now, batchSize);
+        if (!batch.isEmpty()) {
+            outboxRepository.lease(batch.stream().map(NotificationOutbox::getId).toList(), now.plus(lease));
+        }
+        return batch;
+    }
+
+    @Override
+    public void markDelivered(List<Long> outboxIds) {
+        outboxRepository.markDelivered(outboxIds, LocalDateTime.now());
+    }
+
+    @Override
+    public void markFailed(Long outboxId, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        outboxRepository.markFailed(outboxId, truncated, LocalDateTime.now().plus(retryDelay), maxAttempts);
+    }
+
+    @Override
+    public void markDiscarded(List<Long> outboxIds) {
+        outboxRepository.markDiscarded(outboxIds);
+    }
+
+    /**
+     * Доставленные, окончательно неудачные и отброшенные записи нужны только для разбора инцидентов,
+     * поэтому хранятся retention-days и удаляются по расписанию.
+     */
+    @Override
+    @Scheduled(cron = "${notification.outbox.cleanup-cron}")
+    public void purgeFinished() {
+        int purged = outboxRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        log.info("{} finished outbox records older than {} were purged", purged, retention);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationOutbox;
+import ru.admiralpashtet.reminder.service.NotificationSenderService;
+import ru.admiralpashtet.reminder.service.OutboxService;
+import ru.admiralpashtet.reminder.service.ReminderService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Воркеры исходящей очереди. Для каждого канала свой поток-поллер и свой пул отправки, поэтому медленный SMTP
+ * не задерживает Telegram и наоборот. Поллер арендует пачку записей своего канала, отправляет ее через пул
+ * и отмечает доставленные. Неудачные записи возвращаются в очередь с задержкой, пока не кончатся попытки.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.dispatch.mode", havingValue = "outbox")
+public class OutboxWorkers {
+    private final OutboxService outboxService;
+    private final ReminderService reminderService;
+    private final List<NotificationSenderService> senders;
+    private final long pollMillis;
+    private final int batchSize;
+    private final int workersPerChannel;
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    public OutboxWorkers(OutboxService outboxService,
+                         ReminderService reminderService,
+                         List<NotificationSenderService> senders,
+                         @Value("${notification.outbox.poll-millis}") long pollMillis,
+                         @Value("${notification.outbox.batch-size}") int batchSize,
+                         @Value("${notification.outbox.workers-per-channel}") int workersPerChannel) {
+        this.outboxService = outboxService;
+        this.reminderService = reminderService;
+        this.senders = senders;
+        this.pollMillis = pollMillis;
+        this.batchSize = batchSize;
+        this.workersPerChannel = workersPerChannel;
+    }
+
+    @PostConstruct
+    public void start() {
+        for (NotificationSenderService sender : senders) {
+            String channel = sender.getChannel().name().toLowerCase();
+            ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("outbox-" + channel + "-poller").daemon().factory());
+            ExecutorService pool = Executors.newFixedThreadPool(workersPerChannel,
+                    Thread.ofPlatform().name("outbox-" + channel + "-", 0).daemon().factory());
+            executors.add(poller);
+            executors.add(pool);
+            poller.scheduleWithFixedDelay(() -> drain(sender, pool), 0, pollMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    /**
+     * Исключение из задачи scheduleWithFixedDelay отменило бы все ее следующие запуски, поэтому ловим все.
+     */
+    private void drain(NotificationSenderService sender, ExecutorService pool) {
+        try {
+            List<NotificationOutbox> batch;
+            do {
+                batch = outboxService.claim(sender.getChannel(), batchSize);
+                if (!batch.isEmpty()) {
+                    process(sender, pool, batch);
+                }
+            } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException e) {
+            log.error("Outbox worker for channel {} failed: {}", sender.getChannel(), e.toString());
+        }
+    }
+
+    private void process(NotificationSenderService sender, ExecutorService pool, List<NotificationOutbox> batch) {
+        Map<Long, DueReminder> reminders = reminderService.findAllDueByIds(
+                        batch.stream().map(NotificationOutbox::getReminderId).toList())
+                .stream()
+                .collect(Collectors.toMap(DueReminder::id, Function.identity()));
+
+        List<Long> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<Long> discarded = new ArrayList<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (NotificationOutbox record : batch) {
+            DueReminder reminder = reminders.get(record.getReminderId());
+            if (reminder == null) {
+                discarded.add(record.getId());
+                continue;
+            }
+            sends.add(CompletableFuture.runAsync(() -> {
+                try {
+                    sender.sendNotification(reminder);
+                    delivered.add(record.getId());
+                } catch (RuntimeException e) {
+                    log.error("Outbox record with id {} was not delivered by {}: {}",
+                            record.getId(), sender.getChannel(), e.toString());
+                    outboxService.markFailed(record.getId(), e.toString());
+                }
+            }, pool));
+        }
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).join();
+
+        if (!delivered.isEmpty()) {
+            outboxService.markDelivered(delivered);
+        }
+        if (!discarded.isEmpty()) {
+            outboxService.markDiscarded(discarded);
+        }
+    }
+}
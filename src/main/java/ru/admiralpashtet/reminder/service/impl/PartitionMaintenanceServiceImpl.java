@@ -0,0 +1,201 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.admiralpashtet.reminder.service.PartitionMaintenanceService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Обслуживает помесячные секции таблицы Reminders. Заранее создает секции на premake-months вперед и для месяцев,
+ * строки которых лежат в секции по умолчанию, перенося их туда. Месяцы старше retention-months остаются в секции
+ * по умолчанию. Секции старше retention-months без неотправленных напоминаний отсоединяются и, если включено
+ * drop-expired, удаляются вместе с данными.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "reminders.partitioning.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+    private static final String PARENT_TABLE = "reminders";
+    private static final String DEFAULT_PARTITION = "reminders_default";
+    private static final String PARTITION_PREFIX = "reminders_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String LOCK_NAME = "reminders_partition_maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+
+    public PartitionMaintenanceServiceImpl(JdbcTemplate jdbcTemplate,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${reminders.partitioning.premake-months}") int premakeMonths,
+                                           @Value("${reminders.partitioning.retention-months}") int retentionMonths,
+                                           @Value("${reminders.partitioning.drop-expired}") boolean dropExpired) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+    }
+
+    /**
+     * Ошибка обслуживания не должна останавливать запуск приложения: секции по умолчанию хватает, пока
+     * следующий запуск по расписанию не создаст недостающие.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reminders.partitioning.cron}")
+    public void maintain() {
+        try {
+            YearMonth current = YearMonth.now();
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            Set<YearMonth> existing = findPartitions();
+
+            Set<YearMonth> required = new TreeSet<>(findMonthsInDefaultPartition());
+            for (int i = 0; i <= premakeMonths; i++) {
+                required.add(current.plusMonths(i));
+            }
+            required.removeAll(existing);
+            required.removeIf(month -> month.isBefore(oldestKept));
+            required.forEach(this::createPartition);
+
+            existing.stream()
+                    .filter(month -> month.isBefore(oldestKept))
+                    .forEach(this::expirePartition);
+        } catch (RuntimeException e) {
+            log.error("Partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Секцию нельзя подключить, пока строки ее диапазона лежат в секции по умолчанию, поэтому в одной транзакции
+     * под блокировкой секции по умолчанию строки переносятся в новую таблицу, и только затем она подключается.
+     * Сгенерированные колонки пересчитываются при вставке, поэтому переносятся только обычные.
+     */
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        Integer moved = transactionTemplate.execute(status -> {
+            if (!tryLock() || findPartitions().contains(month)) {
+                return null;
+            }
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.execute("CREATE TABLE " + name
+                    + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING GENERATED)");
+            String columns = String.join(", ", findStoredColumns());
+            int rows = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                            + " WHERE remind >= ? AND remind < ? RETURNING *) INSERT INTO " + name
+                            + " (" + columns + ") SELECT " + columns + " FROM moved",
+                    Timestamp.valueOf(from), Timestamp.valueOf(to));
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + name
+                    + " FOR VALUES FROM ('" + from.format(BOUND) + "') TO ('" + to.format(BOUND) + "')");
+            return rows;
+        });
+        if (moved != null) {
+            log.info("Partition {} was created, {} reminders were moved from the default partition", name, moved);
+        }
+    }
+
+    /**
+     * Строки отсоединенной секции пропадают из Reminders, поэтому в той же транзакции из счетчиков
+     * пользователей вычитается ее содержимое, для синхронизации клиентов записываются отметки об удалении,
+     * а версии данных затронутых пользователей увеличиваются. Секция с ожидающими отправки напоминаниями
+     * не трогается: срок хранения относится только к доставленным и к просроченным (EXPIRED), которые
+     * планировщик уже не отправит.
+     */
+    private void expirePartition(YearMonth month) {
+        String name = partitionName(month);
+        ExpireResult result = transactionTemplate.execute(status -> {
+            if (!tryLock() || !findPartitions().contains(month)) {
+                return ExpireResult.SKIPPED;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+            Integer pending = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM " + name + " WHERE status = 'PENDING'", Integer.class);
+            if (pending != null && pending > 0) {
+                status.setRollbackOnly();
+                log.warn("Partition {} is expired but still has {} undelivered reminders, it is kept", name, pending);
+                return ExpireResult.SKIPPED;
+            }
+            jdbcTemplate.update("UPDATE user_reminder_counters c SET total = c.total - s.total "
+                    + "FROM (SELECT user_id, count(*) AS total FROM " + name
+                    + " GROUP BY user_id) s WHERE c.user_id = s.user_id");
+            jdbcTemplate.update("INSERT INTO reminder_tombstones (reminder_id, user_id, deleted_at) "
+                    + "SELECT id, user_id, ? FROM " + name, Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.update("UPDATE Users SET data_version = data_version + 1 "
+                    + "WHERE id IN (SELECT DISTINCT user_id FROM " + name + ")");
+            if (dropExpired) {
+                jdbcTemplate.execute("DROP TABLE " + name);
+                return ExpireResult.DROPPED;
+            }
+            return ExpireResult.DETACHED;
+        });
+        if (result != null && result != ExpireResult.SKIPPED) {
+            log.info("Partition {} was {}", name, result.name().toLowerCase());
+        }
+    }
+
+    /**
+     * Несколько узлов обслуживают секции по одному расписанию. Блокировка держится до конца транзакции,
+     * узел, не получивший ее, пропускает шаг, а получивший заново проверяет, не сделан ли шаг до него.
+     */
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, LOCK_NAME));
+    }
+
+    private Set<YearMonth> findPartitions() {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT child.relname FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?""", String.class, PARENT_TABLE);
+        Set<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            if (name.startsWith(PARTITION_PREFIX)) {
+                months.add(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+            }
+        }
+        return months;
+    }
+
+    private List<String> findStoredColumns() {
+        return jdbcTemplate.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = ? AND is_generated = 'NEVER'
+                ORDER BY ordinal_position""", String.class, PARENT_TABLE);
+    }
+
+    private List<YearMonth> findMonthsInDefaultPartition() {
+        return jdbcTemplate.queryForList(
+                        "SELECT DISTINCT date_trunc('month', remind) FROM " + DEFAULT_PARTITION, Timestamp.class)
+                .stream()
+                .map(timestamp -> YearMonth.from(timestamp.toLocalDateTime()))
+                .toList();
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private enum ExpireResult {
+        SKIPPED, DETACHED, DROPPED
+    }
+}
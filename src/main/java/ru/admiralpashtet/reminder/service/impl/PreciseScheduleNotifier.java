@@ -0,0 +1,135 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.ReminderService;
+import ru.admiralpashtet.reminder.service.ScheduleService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Планировщик с посекундной точностью. Раз в минуту, как и при обычном опросе, из БД читаются напоминания
+ * текущей минуты, но отправляются они не пачкой в :00, а каждое в свой момент remind. Отдельный поток
+ * паркуется на {@link DelayQueue} до ближайшего срока, поэтому нагрузка на SMTP и Telegram размазывается по минуте.
+ * <p/>
+ * Очередь живет только в памяти. После рестарта текущая минута перечитывается из БД (напоминания остаются
+ * PENDING до отправки), но минуты, пропущенные пока приложение было остановлено, в этом режиме не догоняются -
+ * если это важно, используйте режим опроса с водяным знаком.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "schedule.notifier.mode", havingValue = "precise")
+public class PreciseScheduleNotifier implements ScheduleService {
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final ReminderService reminderService;
+    private final DispatchService dispatchService;
+    private final Duration expireAfter;
+    private final DelayQueue<DelayedReminder> queue = new DelayQueue<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private Thread dispatcherThread;
+
+    public PreciseScheduleNotifier(ReminderService reminderService,
+                                   DispatchService dispatchService,
+                                   @Value("${schedule.notifier.expire-after-minutes}") long expireAfterMinutes) {
+        this.reminderService = reminderService;
+        this.dispatchService = dispatchService;
+        this.expireAfter = Duration.ofMinutes(expireAfterMinutes);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcherThread = Thread.ofPlatform()
+                .name("reminder-precise-dispatcher")
+                .daemon()
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcherThread.interrupt();
+    }
+
+    /**
+     * Перечитывает текущую минуту после старта, иначе напоминания, стоявшие в очереди до рестарта, дождутся
+     * только следующего запуска по cron, который читает уже следующую минуту.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadCurrentMinute() {
+        doNotify();
+    }
+
+    @Override
+    @Scheduled(cron = "${schedule.notifier.cron}")
+    public void doNotify() {
+        reminderService.expirePendingBefore(LocalDateTime.now().minus(expireAfter));
+        reminderService.findAllByLocalDateTimeNow().stream()
+                .filter(reminder -> queued.add(reminder.id()))
+                .forEach(reminder -> queue.put(new DelayedReminder(reminder)));
+    }
+
+    /**
+     * Если отправка или отметка не удалась, пачка возвращается в очередь и повторяется через RETRY_DELAY:
+     * из БД эта минута уже не перечитывается.
+     */
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<DueReminder> due = new ArrayList<>();
+                due.add(queue.take().reminder());
+                List<DelayedReminder> sameInstant = new ArrayList<>();
+                queue.drainTo(sameInstant);
+                sameInstant.forEach(delayed -> due.add(delayed.reminder()));
+                List<Long> ids = due.stream().map(DueReminder::id).toList();
+                try {
+                    dispatchService.dispatch(due);
+                    reminderService.markSent(ids);
+                } catch (RuntimeException e) {
+                    long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+                    due.forEach(reminder -> queue.put(new DelayedReminder(reminder, retryAt)));
+                    throw e;
+                }
+                ids.forEach(queued::remove);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Failed to dispatch reminders", e);
+            }
+        }
+    }
+
+    private record DelayedReminder(DueReminder reminder, long deadlineMillis) implements Delayed {
+
+        private DelayedReminder(DueReminder reminder) {
+            this(reminder, reminder.remind().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineMillis, ((DelayedReminder) other).deadlineMillis);
+        }
+    }
+}
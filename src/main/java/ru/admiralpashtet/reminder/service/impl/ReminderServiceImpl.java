@@ -1,91 +1,411 @@
 package ru.admiralpashtet.reminder.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.cache.ReminderSearchCache;
+import ru.admiralpashtet.reminder.cache.ReminderSuggestIndex;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.dto.request.ReminderFilterRequest;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.ScrollRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+import ru.admiralpashtet.reminder.dto.response.ScrollResponse;
 import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.entity.UserReminderCounter;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent.ChangeType;
 import ru.admiralpashtet.reminder.exception.AccessDeniedException;
 import ru.admiralpashtet.reminder.exception.ReminderNotFoundException;
+import ru.admiralpashtet.reminder.exception.UserNotFoundException;
 import ru.admiralpashtet.reminder.mapper.ReminderMapper;
+import ru.admiralpashtet.reminder.pagination.ReminderCursor;
 import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.repository.UserReminderCounterRepository;
+import ru.admiralpashtet.reminder.repository.UserRepository;
 import ru.admiralpashtet.reminder.repository.specification.ReminderSpecification;
+import ru.admiralpashtet.reminder.search.CountMode;
+import ru.admiralpashtet.reminder.search.ReminderFilter;
+import ru.admiralpashtet.reminder.search.SearchMode;
 import ru.admiralpashtet.reminder.service.ReminderService;
 import ru.admiralpashtet.reminder.sort.SortCondition;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class ReminderServiceImpl implements ReminderService {
+    private static final int MAX_CALENDAR_DAYS = 366;
+    private static final int MAX_SUGGESTIONS = 20;
+    private static final String USER_FOREIGN_KEY = "reminders_user_id_fkey";
+
     private final ReminderRepository reminderRepository;
+    private final UserReminderCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private final ReminderSearchCache searchCache;
+    private final ReminderSuggestIndex suggestIndex;
     private final ReminderMapper reminderMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public ReminderResponse create(ReminderRequest reminderRequest, Long userId) {
         Reminder entity = reminderMapper.toEntity(reminderRequest, userId);
-        Reminder saved = reminderRepository.save(entity);
+        Reminder saved = insert(() -> reminderRepository.saveAndFlush(entity), userId);
+        counterRepository.incrementCreated(userId, 1);
+        userRepository.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new ReminderChangedEvent(ChangeType.CREATED, saved.getId(), userId, saved));
 
         return reminderMapper.toResponseDTO(saved);
     }
 
+    /**
+     * Пользователь не читается, маппер ставит прокси по id. Вставки уходят
+     * пачками по hibernate.jdbc.batch_size при сбросе контекста, счетчики и версия данных обновляются один раз.
+     */
+    @Override
+    @Transactional
+    public List<ReminderResponse> createAll(List<ReminderRequest> reminderRequests, Long userId) {
+        List<Reminder> entities = reminderRequests.stream()
+                .map(reminderRequest -> reminderMapper.toEntity(reminderRequest, userId))
+                .toList();
+        List<Reminder> saved = insert(() -> reminderRepository.saveAllAndFlush(entities), userId);
+        counterRepository.incrementCreated(userId, saved.size());
+        userRepository.incrementDataVersion(userId);
+        eventPublisher.publishEvent(new ReminderBulkChangedEvent(ChangeType.CREATED, userId,
+                saved.stream().map(Reminder::getId).toList()));
+
+        return saved.stream().map(reminderMapper::toResponseDTO).toList();
+    }
+
+    /**
+     * Владелец ставится прокси без чтения, поэтому удаленный пользователь обнаруживается только по внешнему
+     * ключу. Вставка сбрасывается здесь же, чтобы нарушение ключа стало 404, а не ошибкой при фиксации.
+     * Нарушения других ограничений пробрасываются как есть.
+     */
+    private <T> T insert(Supplier<T> save, Long userId) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && USER_FOREIGN_KEY.equalsIgnoreCase(violation.getConstraintName())) {
+                throw new UserNotFoundException("User with id " + userId + " was not found");
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Page<ReminderResponse> findAll(Long userId, SearchRequest searchRequest) {
+        long dataVersion = userRepository.findDataVersionById(userId).orElse(0L);
+        return searchCache.get(userId, dataVersion, searchRequest, () -> search(userId, searchRequest));
+    }
+
+    private Page<ReminderResponse> search(Long userId, SearchRequest searchRequest) {
         if (searchRequest.sortBy() == null || Arrays.stream(SortCondition.values())
                 .noneMatch(sortCondition -> searchRequest.sortBy().equalsIgnoreCase(sortCondition.toString()))) {
-            throw new IllegalArgumentException("Illegal argument in sortBy field. Expected: {title, description, remind}");
+            throw new IllegalArgumentException(
+                    "Illegal argument in sortBy field. Expected: {title, description, remind, relevance}");
+        }
+        SearchMode searchMode = resolveSearchMode(searchRequest.searchMode());
+        CountMode countMode = resolveCountMode(searchRequest.countMode());
+        boolean hasQuery = searchRequest.searchQuery() != null && !searchRequest.searchQuery().isBlank();
+        boolean hasDateOrTime = searchRequest.date() != null || searchRequest.time() != null;
+        boolean hasRange = searchRequest.from() != null || searchRequest.to() != null;
+        if (searchRequest.from() != null && searchRequest.to() != null && searchRequest.from().isAfter(searchRequest.to())) {
+            throw new IllegalArgumentException("Start of the range must not be after its end");
+        }
+        boolean ranked = searchMode != SearchMode.KEYWORDS && hasQuery;
+        if (!ranked && SortCondition.RELEVANCE.name().equalsIgnoreCase(searchRequest.sortBy())) {
+            throw new IllegalArgumentException(
+                    "Sorting by relevance is available only in fulltext and fuzzy search modes");
+        }
+
+        Sort sort = Sort.by(searchRequest.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC, searchRequest.sortBy());
+        PageRequest pageRequest = PageRequest.of(searchRequest.page(), searchRequest.size(), sort);
+
+        if (!hasQuery && !hasDateOrTime && !hasRange) {
+            long total = counterRepository.findById(userId).map(UserReminderCounter::getTotal).orElse(0L);
+            return new PageImpl<>(reminderRepository.findAllByUserId(userId, pageRequest), pageRequest, total)
+                    .map(reminderMapper::toResponseDTO);
+        }
+
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        if (hasDateOrTime) {
+            from = rangeStart(searchRequest.date(), searchRequest.time());
+            to = searchRequest.date() != null && searchRequest.time() == null
+                    ? searchRequest.date().atTime(23, 59, 59)
+                    : from;
+        }
+        if (searchRequest.from() != null) {
+            LocalDateTime rangeFrom = searchRequest.from().atStartOfDay();
+            from = from == null || from.isBefore(rangeFrom) ? rangeFrom : from;
+        }
+        if (searchRequest.to() != null) {
+            LocalDateTime rangeTo = searchRequest.to().plusDays(1).atStartOfDay().minusNanos(1_000);
+            to = to == null || to.isAfter(rangeTo) ? rangeTo : to;
+        }
+
+        if (ranked) {
+            Page<Reminder> found = searchMode == SearchMode.FULLTEXT
+                    ? reminderRepository.searchFullText(userId, searchRequest.searchQuery(), from, to,
+                    pageRequest, countMode)
+                    : reminderRepository.searchFuzzy(userId, searchRequest.searchQuery().replace('+', ' ').strip(),
+                    from, to, pageRequest, countMode);
+            return found.map(reminderMapper::toResponseDTO);
         }
 
         Specification<Reminder> specification = Specification.where(ReminderSpecification.hasUserId(userId));
-        if (searchRequest.searchQuery() != null) {
+        if (hasQuery) {
             specification = specification.and(ReminderSpecification.hasKeywords(searchRequest.searchQuery()));
         }
-        if (searchRequest.date() != null || searchRequest.time() != null) {
+        if (hasDateOrTime) {
             specification = specification.and(ReminderSpecification.hasDateAndTime(searchRequest.date(), searchRequest.time()));
         }
+        if (hasRange) {
+            specification = specification.and(ReminderSpecification.hasRemindBetween(searchRequest.from(), searchRequest.to()));
+        }
 
-        Sort sort = Sort.by(searchRequest.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC, searchRequest.sortBy());
-        PageRequest pageRequest = PageRequest.of(searchRequest.page(), searchRequest.size(), sort);
+        Page<Reminder> found = switch (countMode) {
+            case EXACT -> reminderRepository.findAll(specification, pageRequest);
+            case NONE -> reminderRepository.findAllWithoutCount(specification, pageRequest);
+            case ESTIMATED -> {
+                Page<Reminder> slice = reminderRepository.findAllWithoutCount(specification, pageRequest);
+                if (!slice.hasNext()) {
+                    yield slice;
+                }
+                List<String> keywords = hasQuery ? List.of(searchRequest.searchQuery().split("\\+")) : List.of();
+                long estimate = reminderRepository.estimateKeywordsCount(userId, keywords, from, to);
+                yield new PageImpl<>(slice.getContent(), pageRequest, Math.max(estimate, slice.getTotalElements()));
+            }
+        };
+        return found.map(reminderMapper::toResponseDTO);
+    }
 
-        return reminderRepository.findAll(specification, pageRequest).map(reminderMapper::toResponseDTO);
+    @Override
+    public List<CalendarDayResponse> countByDay(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start of the range must not be after its end");
+        }
+        if (from.plusDays(MAX_CALENDAR_DAYS - 1).isBefore(to)) {
+            throw new IllegalArgumentException("Calendar range must not be longer than " + MAX_CALENDAR_DAYS + " days");
+        }
+        return reminderRepository.countByDay(userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
     }
 
     @Override
-    public ReminderResponse update(ReminderRequest reminderRequest, Long reminderId, Long userId) {
-        Reminder reminder = reminderRepository.findById(reminderId)
-                .orElseThrow(() -> new ReminderNotFoundException("Reminder with id " + reminderId + " was not found"));
+    public List<String> suggest(Long userId, String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit of suggestions must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return suggestIndex.suggest(userId, prefix, limit);
+    }
+
+    /**
+     * Запрашивается на одну запись больше страницы: так без count(*) понятно, есть ли продолжение.
+     */
+    @Override
+    public ScrollResponse<ReminderResponse> scroll(Long userId, ScrollRequest scrollRequest) {
+        int limit = scrollRequest.size() + 1;
+        List<Reminder> reminders;
+        if (scrollRequest.cursor() == null || scrollRequest.cursor().isBlank()) {
+            reminders = scrollRequest.ascending()
+                    ? reminderRepository.findFirstScrollAsc(userId, limit)
+                    : reminderRepository.findFirstScrollDesc(userId, limit);
+        } else {
+            ReminderCursor cursor = ReminderCursor.decode(scrollRequest.cursor());
+            reminders = scrollRequest.ascending()
+                    ? reminderRepository.findNextScrollAsc(userId, cursor.remind(), cursor.id(), limit)
+                    : reminderRepository.findNextScrollDesc(userId, cursor.remind(), cursor.id(), limit);
+        }
 
-        if (!reminder.getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("The current user has no access to this reminder");
+        boolean hasNext = reminders.size() > scrollRequest.size();
+        List<Reminder> page = hasNext ? reminders.subList(0, scrollRequest.size()) : reminders;
+        String nextCursor = null;
+        if (hasNext) {
+            Reminder last = page.get(page.size() - 1);
+            nextCursor = new ReminderCursor(last.getRemind(), last.getId()).encode();
         }
+        return new ScrollResponse<>(page.stream().map(reminderMapper::toResponseDTO).toList(), nextCursor, hasNext);
+    }
 
-        reminderMapper.updateEntityFromDto(reminderRequest, reminder);
-        Reminder saved = reminderRepository.save(reminder);
+    @Override
+    @Transactional
+    public ReminderResponse update(ReminderRequest reminderRequest, Long reminderId, Long userId) {
+        Reminder updated = reminderRepository.updateOwned(reminderId, userId, reminderRequest.title(),
+                        reminderRequest.description(), reminderRequest.remind(), LocalDateTime.now())
+                .orElseThrow(() -> notOwned(reminderId));
+        eventPublisher.publishEvent(new ReminderChangedEvent(ChangeType.UPDATED, reminderId, userId, updated));
 
-        return reminderMapper.toResponseDTO(saved);
+        return reminderMapper.toResponseDTO(updated);
     }
 
     @Override
+    @Transactional
     public void deleteById(Long reminderId, Long userId) {
-        Optional<Reminder> reminder = reminderRepository.findById(reminderId);
-        if (reminder.isPresent() && !reminder.get().getUser().getId().equals(userId)) {
-            throw new AccessDeniedException("The current user has no access to this reminder");
+        if (reminderRepository.deleteOwned(reminderId, userId, LocalDateTime.now()) == 0) {
+            throw notOwned(reminderId);
+        }
+        eventPublisher.publishEvent(new ReminderChangedEvent(ChangeType.DELETED, reminderId, userId, null));
+    }
+
+    @Override
+    @Transactional
+    public int rescheduleAll(Long userId, ReminderFilterRequest filterRequest, Duration shift) {
+        if (shift.isZero()) {
+            throw new IllegalArgumentException("Shift must not be zero");
+        }
+        List<Long> rescheduled = reminderRepository.rescheduleOwned(userId, toFilter(filterRequest), shift,
+                LocalDateTime.now());
+        if (!rescheduled.isEmpty()) {
+            eventPublisher.publishEvent(new ReminderBulkChangedEvent(ChangeType.UPDATED, userId, rescheduled));
         }
-        reminderRepository.deleteById(reminderId);
+        return rescheduled.size();
     }
 
     @Override
-    public List<Reminder> findAllByLocalDateTimeNow() {
+    @Transactional
+    public int deleteAll(Long userId, ReminderFilterRequest filterRequest) {
+        List<Long> deleted = reminderRepository.deleteOwned(userId, toFilter(filterRequest), LocalDateTime.now());
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishEvent(new ReminderBulkChangedEvent(ChangeType.DELETED, userId, deleted));
+        }
+        return deleted.size();
+    }
+
+    /**
+     * Пустой фильтр запрещен, чтобы ошибка клиента не перенесла или не удалила все напоминания пользователя.
+     */
+    private static ReminderFilter toFilter(ReminderFilterRequest filterRequest) {
+        if (filterRequest.from() != null && filterRequest.to() != null && filterRequest.from().isAfter(filterRequest.to())) {
+            throw new IllegalArgumentException("Start of the range must not be after its end");
+        }
+        boolean hasQuery = filterRequest.searchQuery() != null && !filterRequest.searchQuery().isBlank();
+        ReminderFilter filter = new ReminderFilter(
+                filterRequest.ids(),
+                hasQuery ? List.of(filterRequest.searchQuery().split("\\+")) : List.of(),
+                filterRequest.from() != null ? filterRequest.from().atStartOfDay() : null,
+                filterRequest.to() != null ? filterRequest.to().plusDays(1).atStartOfDay() : null);
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("Filter must contain at least one condition");
+        }
+        return filter;
+    }
+
+    /**
+     * Запись владельца ничего не затронула: отдельный запрос нужен только здесь, чтобы отличить чужое
+     * напоминание от несуществующего.
+     */
+    private RuntimeException notOwned(Long reminderId) {
+        if (reminderRepository.existsById(reminderId)) {
+            return new AccessDeniedException("The current user has no access to this reminder");
+        }
+        return new ReminderNotFoundException("Reminder with id " + reminderId + " was not found");
+    }
+
+    @Override
+    public List<DueReminder> findAllByLocalDateTimeNow() {
         LocalDateTime from = LocalDateTime.now().withSecond(0).withNano(0);
         LocalDateTime to = LocalDateTime.now().withSecond(59).withNano(0);
-        return reminderRepository.findAllByRemindBetween(from, to);
+        return reminderRepository.findDueBetween(from, to);
+    }
+
+    @Override
+    public List<DueReminder> findPendingInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive, int limit) {
+        return reminderRepository.findPendingInWindow(fromExclusive, toInclusive, Limit.of(limit));
+    }
+
+    @Override
+    public long countPendingInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive) {
+        return reminderRepository.countPendingInWindow(fromExclusive, toInclusive);
+    }
+
+    @Override
+    public List<DueReminder> findAllDueByIds(Collection<Long> reminderIds) {
+        return reminderRepository.findDueByIds(reminderIds);
+    }
+
+    @Override
+    public List<DueReminder> findAllByRemindInWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive) {
+        return reminderRepository.findDueInWindow(fromExclusive, toInclusive);
+    }
+
+    @Override
+    @Transactional
+    public List<DueReminder> claimDueReminders(String owner, Duration lease, Duration maxLateness, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = reminderRepository.lockDueIds(now, now.minus(maxLateness), batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        reminderRepository.lease(ids, owner, now.plus(lease));
+        return reminderRepository.findDueByIds(ids);
+    }
+
+    @Override
+    public void markSent(List<Long> reminderIds) {
+        reminderRepository.markSent(reminderIds, LocalDateTime.now());
+    }
+
+    @Override
+    public void markSent(List<Long> reminderIds, String owner) {
+        reminderRepository.markSent(reminderIds, owner, LocalDateTime.now());
+    }
+
+    @Override
+    public void expirePendingBefore(LocalDateTime before) {
+        reminderRepository.expirePendingBefore(before);
+    }
+
+    private static SearchMode resolveSearchMode(String searchMode) {
+        if (searchMode == null) {
+            return SearchMode.KEYWORDS;
+        }
+        return Arrays.stream(SearchMode.values())
+                .filter(mode -> mode.name().equalsIgnoreCase(searchMode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Illegal argument in searchMode field. Expected: {keywords, fulltext, fuzzy}"));
+    }
+
+    private static CountMode resolveCountMode(String countMode) {
+        if (countMode == null) {
+            return CountMode.EXACT;
+        }
+        return Arrays.stream(CountMode.values())
+                .filter(mode -> mode.name().equalsIgnoreCase(countMode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Illegal argument in countMode field. Expected: {exact, estimated, none}"));
+    }
+
+    /**
+     * Те же границы, что и в {@link ReminderSpecification#hasDateAndTime}: время без даты ищется на сегодня.
+     */
+    private static LocalDateTime rangeStart(LocalDate date, LocalTime time) {
+        if (date != null) {
+            return time != null ? LocalDateTime.of(date, time) : date.atStartOfDay();
+        }
+        return LocalDateTime.of(LocalDate.now(), time);
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,139 @@
 package ru.admiralpashtet.reminder.service.impl;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.DispatchWatermarkService;
 import ru.admiralpashtet.reminder.service.ReminderService;
 import ru.admiralpashtet.reminder.service.ScheduleService;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Поминутный опрос БД. Обрабатывается окно (watermark, конец текущей минуты], где watermark хранится в БД,
+ * поэтому минуты, пропущенные из-за простоя или паузы, догоняются на следующем тике. Напоминания читаются
+ * пачками по chunk-size, каждая пачка отправляется и отмечается отдельно, так что память не зависит от размера
+ * окна, а после падения отправка продолжается с последней отмеченной пачки.
+ */
+@Slf4j
 @Service
-@AllArgsConstructor
+@ConditionalOnProperty(name = "schedule.notifier.mode", havingValue = "polling", matchIfMissing = true)
 public class ScheduleNotifier implements ScheduleService {
+    static final String WATERMARK = "polling";
+    /**
+     * Точность timestamp в PostgreSQL: граница окна на одну единицу раньше remind не теряет напоминаний с этим remind.
+     */
+    private static final Duration RESOLUTION = Duration.of(1, ChronoUnit.MICROS);
 
-    private ReminderService reminderService;
-    private EmailNotificationSenderService emailNotificationSenderService;
-    private TelegramNotificationSenderService telegramNotificationSenderService;
+    private final ReminderService reminderService;
+    private final DispatchService dispatchService;
+    private final DispatchWatermarkService watermarkService;
+    private final int chunkSize;
+    private final Duration maxLag;
+    private final int catchUpPerSecond;
+    private final Counter caughtUp;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public ScheduleNotifier(ReminderService reminderService,
+                            DispatchService dispatchService,
+                            DispatchWatermarkService watermarkService,
+                            MeterRegistry meterRegistry,
+                            @Value("${schedule.notifier.chunk-size}") int chunkSize,
+                            @Value("${schedule.catch-up.max-lag-hours}") long maxLagHours,
+                            @Value("${schedule.catch-up.max-per-second}") int catchUpPerSecond) {
+        this.reminderService = reminderService;
+        this.dispatchService = dispatchService;
+        this.watermarkService = watermarkService;
+        this.chunkSize = chunkSize;
+        this.maxLag = Duration.ofHours(maxLagHours);
+        this.catchUpPerSecond = catchUpPerSecond;
+        this.caughtUp = Counter.builder("reminder.catch-up.dispatched")
+                .description("Reminders dispatched after their minute was missed")
+                .register(meterRegistry);
+        meterRegistry.gauge("reminder.catch-up.backlog", backlog);
+    }
 
     @Override
     @Scheduled(cron = "${schedule.notifier.cron}")
     public void doNotify() {
-        List<Reminder> reminders = reminderService.findAllByLocalDateTimeNow();
-        if (!reminders.isEmpty()) {
-            reminders.forEach(reminder -> {
-                emailNotificationSenderService.sendNotification(reminder);
-                telegramNotificationSenderService.sendNotification(reminder);
-            });
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minuteStart = now.withSecond(0).withNano(0);
+        LocalDateTime upTo = now.withSecond(59).withNano(0);
+        LocalDateTime from = resolveWatermark(minuteStart);
+        reminderService.expirePendingBefore(minuteStart.minus(maxLag));
+        backlog.set(reminderService.countPendingInWindow(from, minuteStart.minus(RESOLUTION)));
+
+        long startedNanos = System.nanoTime();
+        long caughtUpInTick = 0;
+        List<DueReminder> chunk;
+        do {
+            chunk = reminderService.findPendingInWindow(from, upTo, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            dispatchService.dispatch(chunk);
+            reminderService.markSent(chunk.stream().map(DueReminder::id).toList());
+
+            long missed = chunk.stream().filter(reminder -> reminder.remind().isBefore(minuteStart)).count();
+            if (missed > 0) {
+                caughtUpInTick += missed;
+                caughtUp.increment(missed);
+                backlog.updateAndGet(remaining -> Math.max(0, remaining - missed));
+                from = chunk.getLast().remind().minus(RESOLUTION);
+                watermarkService.advance(WATERMARK, from);
+                if (!pace(startedNanos, caughtUpInTick)) {
+                    return;
+                }
+            }
+        } while (chunk.size() == chunkSize);
+
+        watermarkService.advance(WATERMARK, upTo);
+        if (caughtUpInTick > 0) {
+            log.info("Caught up {} reminders from missed minutes", caughtUpInTick);
+        }
+    }
+
+    /**
+     * Без сохраненной границы обрабатывается только текущая минута. Слишком старая граница подтягивается
+     * к max-lag-hours: напоминания, опоздавшие сильнее, уже не отправляются и отмечаются EXPIRED.
+     */
+    private LocalDateTime resolveWatermark(LocalDateTime minuteStart) {
+        LocalDateTime from = watermarkService.find(WATERMARK).orElse(minuteStart.minus(RESOLUTION));
+        LocalDateTime floor = minuteStart.minus(maxLag);
+        if (from.isBefore(floor)) {
+            log.warn("Dispatch watermark {} is older than {}, reminders before {} are skipped", from, maxLag, floor);
+            return floor;
+        }
+        return from;
+    }
+
+    /**
+     * Догоняющая отправка ограничена catch-up.max-per-second, чтобы разбор долгого простоя не завалил
+     * SMTP и Telegram. Напоминания текущей минуты не притормаживаются. Пауза занимает поток планировщика,
+     * поэтому в пуле spring.task.scheduling.pool.size больше одного потока и другие задачи по расписанию не ждут.
+     */
+    private boolean pace(long startedNanos, long sent) {
+        long aheadNanos = TimeUnit.SECONDS.toNanos(sent) / catchUpPerSecond - (System.nanoTime() - startedNanos);
+        if (aheadNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.admiralpashtet.reminder.dto.response.ChangesResponse;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.exception.SyncTokenExpiredException;
+import ru.admiralpashtet.reminder.mapper.ReminderMapper;
+import ru.admiralpashtet.reminder.pagination.SyncToken;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.repository.ReminderTombstoneRepository;
+import ru.admiralpashtet.reminder.service.SyncService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Отдает клиенту изменения после его токена: измененные напоминания по индексу (user_id, updated_at)
+ * и id удаленных из reminder_tombstones. Новый токен отстает от текущего времени на commit-lag-seconds,
+ * чтобы изменение из транзакции, которая зафиксируется позже выдачи токена, не оказалось позади него.
+ */
+@Slf4j
+@Service
+public class SyncServiceImpl implements SyncService {
+    private final ReminderRepository reminderRepository;
+    private final ReminderTombstoneRepository tombstoneRepository;
+    private final ReminderMapper reminderMapper;
+    private final Duration commitLag;
+    private final Duration tombstoneRetention;
+
+    public SyncServiceImpl(ReminderRepository reminderRepository,
+                           ReminderTombstoneRepository tombstoneRepository,
+                           ReminderMapper reminderMapper,
+                           @Value("${reminders.sync.commit-lag-seconds}") long commitLagSeconds,
+                           @Value("${reminders.sync.tombstone-retention-days}") long tombstoneRetentionDays) {
+        this.reminderRepository = reminderRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.reminderMapper = reminderMapper;
+        this.commitLag = Duration.ofSeconds(commitLagSeconds);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * Без токена возвращается полный список, с которого клиент начинает синхронизацию.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChangesResponse findChanges(Long userId, String since) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(commitLag);
+
+        List<Reminder> changed;
+        List<Long> deleted;
+        if (since == null || since.isBlank()) {
+            changed = reminderRepository.findAllUpdatedUntil(userId, until);
+            deleted = List.of();
+        } else {
+            LocalDateTime position = SyncToken.decode(since).position();
+            if (position.isBefore(now.minus(tombstoneRetention))) {
+                throw new SyncTokenExpiredException("Sync token is older than the deletion history, reload all reminders");
+            }
+            if (!position.isBefore(until)) {
+                return new ChangesResponse(List.of(), List.of(), since);
+            }
+            changed = reminderRepository.findChanged(userId, position, until);
+            deleted = tombstoneRepository.findDeletedIds(userId, position, until);
+        }
+        return new ChangesResponse(changed.stream().map(reminderMapper::toResponseDTO).toList(), deleted,
+                new SyncToken(until).encode());
+    }
+
+    @Override
+    @Scheduled(cron = "${reminders.sync.cleanup-cron}")
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        log.info("{} reminder tombstones older than {} were purged", purged, tombstoneRetention);
+    }
+}
@@ -2,7 +2,8 @@ package ru.admiralpashtet.reminder.service.impl;
 
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
 import ru.admiralpashtet.reminder.service.NotificationSenderService;
 import ru.admiralpashtet.reminder.telegram.sender.TelegramMessageSender;
 
@@ -13,7 +14,12 @@ public class TelegramNotificationSenderService implements NotificationSenderServ
     private final TelegramMessageSender telegramMessageSender;
 
     @Override
-    public void sendNotification(Reminder reminder) {
+    public void sendNotification(DueReminder reminder) {
         telegramMessageSender.sendMessage(reminder);
     }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.TELEGRAM;
+    }
 }
\ No newline at end of file
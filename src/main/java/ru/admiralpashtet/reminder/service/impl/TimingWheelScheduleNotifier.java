@@ -0,0 +1,231 @@
+package ru.admiralpashtet.reminder.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.scheduler.wheel.HierarchicalTimingWheel;
+import ru.admiralpashtet.reminder.service.DispatchService;
+import ru.admiralpashtet.reminder.service.ReminderService;
+import ru.admiralpashtet.reminder.service.ScheduleService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Планировщик на основе иерархического колеса таймеров. Напоминания на ближайшие preload-hours часов держатся
+ * в памяти, БД читается только при сдвиге окна предзагрузки (когда до его конца остается меньше половины).
+ * Изменения напоминаний внутри окна приходят через {@link ReminderChangedEvent}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "schedule.notifier.mode", havingValue = "wheel")
+public class TimingWheelScheduleNotifier implements ScheduleService {
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 4;
+    /**
+     * Точность timestamp в PostgreSQL: граница окна на одну единицу раньше remind не теряет напоминаний с этим remind.
+     */
+    private static final Duration RESOLUTION = Duration.of(1, ChronoUnit.MICROS);
+
+    private final ReminderService reminderService;
+    private final DispatchService dispatchService;
+    private final Duration preloadWindow;
+    private final Duration tick;
+    private final Duration expireAfter;
+    private final HierarchicalTimingWheel<Long, DueReminder> wheel;
+    private LocalDateTime loadedUntil;
+    /**
+     * Изменения, пришедшие во время чтения окна из БД: id удаленного напоминания хранится с null.
+     * Пока окно не читается, поле равно null.
+     */
+    private Map<Long, DueReminder> changedWhileLoading;
+    /**
+     * Граница, с которой окно перечитывается после неудачной отправки: сработавшие записи уже покинули колесо,
+     * а в БД остались PENDING.
+     */
+    private LocalDateTime rewindFrom;
+
+    public TimingWheelScheduleNotifier(ReminderService reminderService,
+                                       DispatchService dispatchService,
+                                       @Value("${schedule.wheel.preload-hours}") long preloadHours,
+                                       @Value("${schedule.wheel.tick-millis}") long tickMillis,
+                                       @Value("${schedule.notifier.expire-after-minutes}") long expireAfterMinutes) {
+        this.reminderService = reminderService;
+        this.dispatchService = dispatchService;
+        this.preloadWindow = Duration.ofHours(preloadHours);
+        this.tick = Duration.ofMillis(tickMillis);
+        this.expireAfter = Duration.ofMinutes(expireAfterMinutes);
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, toMillis(LocalDateTime.now()));
+    }
+
+    /**
+     * Окно читается из БД вне блокировки, чтобы запись напоминаний не ждала этот запрос. Изменения, пришедшие
+     * во время чтения, запоминаются и при слиянии имеют приоритет над прочитанными строками. Если отправка
+     * сработавших записей не удалась, на следующем тике окно перечитывается с самой ранней из них.
+     */
+    @Override
+    @Scheduled(fixedRateString = "${schedule.wheel.tick-millis}")
+    public void doNotify() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime loadFrom = null;
+        LocalDateTime loadUntil = null;
+        synchronized (this) {
+            if (changedWhileLoading == null) {
+                if (loadedUntil == null) {
+                    loadFrom = now.minus(tick);
+                    loadUntil = now.plus(preloadWindow);
+                } else if (Duration.between(now, loadedUntil).compareTo(preloadWindow.dividedBy(2)) < 0) {
+                    loadFrom = rewindFrom != null ? rewindFrom : loadedUntil;
+                    loadUntil = now.plus(preloadWindow);
+                } else if (rewindFrom != null) {
+                    loadFrom = rewindFrom;
+                    loadUntil = now;
+                }
+                if (loadUntil != null) {
+                    changedWhileLoading = new HashMap<>();
+                }
+            }
+        }
+        if (loadUntil != null) {
+            reminderService.expirePendingBefore(now.minus(expireAfter));
+            loadWindow(loadFrom, loadUntil);
+        }
+
+        List<DueReminder> expired;
+        synchronized (this) {
+            expired = wheel.advanceTo(toMillis(now));
+        }
+        if (!expired.isEmpty()) {
+            try {
+                dispatchService.dispatch(expired);
+                reminderService.markSent(expired.stream().map(DueReminder::id).toList());
+            } catch (RuntimeException e) {
+                rewind(expired);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Событие обрабатывается после фиксации транзакции: иначе при откате записи в колесе остался бы таймер
+     * несуществующего напоминания или было бы отменено напоминание, которое в БД осталось. Напоминание вне окна
+     * предзагрузки просто отменяется, а попавшее в окно перечитывается по id вне блокировки, как и при массовых
+     * изменениях, чтобы не подгружать владельца сущности под блокировкой колеса.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReminderChanged(ReminderChangedEvent event) {
+        synchronized (this) {
+            if (event.getType() == ReminderChangedEvent.ChangeType.DELETED
+                    || changedWhileLoading == null && !isInLoadedWindow(event.getReminder().getRemind())) {
+                cancel(event.getReminderId());
+                return;
+            }
+        }
+        List<DueReminder> reminders = reminderService.findAllDueByIds(List.of(event.getReminderId()));
+        synchronized (this) {
+            reminders.forEach(this::apply);
+        }
+    }
+
+    /**
+     * Перенесенные или созданные пачкой напоминания перечитываются одним запросом по id вне блокировки и попадают
+     * в колесо, если их срок внутри окна предзагрузки.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRemindersBulkChanged(ReminderBulkChangedEvent event) {
+        synchronized (this) {
+            event.getReminderIds().forEach(this::cancel);
+        }
+        if (event.getType() == ReminderChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        List<DueReminder> reminders = reminderService.findAllDueByIds(event.getReminderIds());
+        synchronized (this) {
+            reminders.forEach(this::apply);
+        }
+    }
+
+    private void loadWindow(LocalDateTime fromExclusive, LocalDateTime toInclusive) {
+        List<DueReminder> reminders = null;
+        try {
+            reminders = reminderService.findAllByRemindInWindow(fromExclusive, toInclusive);
+        } finally {
+            synchronized (this) {
+                Map<Long, DueReminder> changed = changedWhileLoading;
+                changedWhileLoading = null;
+                if (reminders != null) {
+                    for (DueReminder reminder : reminders) {
+                        if (!changed.containsKey(reminder.id())) {
+                            wheel.schedule(reminder.id(), toMillis(reminder.remind()), reminder);
+                        }
+                    }
+                    if (loadedUntil == null || toInclusive.isAfter(loadedUntil)) {
+                        loadedUntil = toInclusive;
+                    }
+                    rewindFrom = null;
+                    changed.values().stream()
+                            .filter(Objects::nonNull)
+                            .forEach(this::apply);
+                    log.info("Preloaded {} reminders up to {}, {} are pending in timing wheel",
+                            reminders.size(), loadedUntil, wheel.size());
+                }
+            }
+        }
+    }
+
+    private synchronized void rewind(List<DueReminder> failed) {
+        LocalDateTime earliest = failed.stream()
+                .map(DueReminder::remind)
+                .min(LocalDateTime::compareTo)
+                .orElseThrow()
+                .minus(RESOLUTION);
+        if (rewindFrom == null || earliest.isBefore(rewindFrom)) {
+            rewindFrom = earliest;
+        }
+    }
+
+    private void apply(DueReminder reminder) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.put(reminder.id(), reminder);
+        }
+        if (isInLoadedWindow(reminder.remind())) {
+            wheel.schedule(reminder.id(), toMillis(reminder.remind()), reminder);
+        } else {
+            wheel.cancel(reminder.id());
+        }
+    }
+
+    private void cancel(Long reminderId) {
+        if (changedWhileLoading != null) {
+            changedWhileLoading.put(reminderId, null);
+        }
+        wheel.cancel(reminderId);
+    }
+
+    /**
+     * Напоминания за пределами окна подтянутся запросом при его сдвиге, а прошедшие уже не отправляются,
+     * как и в режиме поминутного опроса, и при сдвиге окна, опоздав на expire-after-minutes, отмечаются EXPIRED.
+     */
+    private boolean isInLoadedWindow(LocalDateTime remind) {
+        return loadedUntil != null
+                && !remind.isAfter(loadedUntil)
+                && toMillis(remind) >= wheel.currentTimeMillis();
+    }
+
+    private static long toMillis(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -2,6 +2,7 @@ package ru.admiralpashtet.reminder.service.impl;
 
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.admiralpashtet.reminder.dto.request.UserSettingsRequest;
 import ru.admiralpashtet.reminder.dto.response.UserResponse;
 import ru.admiralpashtet.reminder.entity.User;
@@ -35,6 +36,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UserResponse updateNotificationSettings(UserSettingsRequest settingsRequest, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " was not found"));
@@ -43,10 +45,12 @@ public class UserServiceImpl implements UserService {
             user.getTelegramData().setChatId(null);
         }
         User saved = userRepository.save(user);
+        userRepository.incrementDataVersion(userId);
         return userMapper.toResponse(saved);
     }
 
     @Override
+    @Transactional
     public UserResponse update(User user, Long userId) {
         Optional<User> optionalUser = userRepository.findById(userId);
         if (optionalUser.isEmpty()) {
@@ -54,6 +58,7 @@ public class UserServiceImpl implements UserService {
         }
         user.setId(userId);
         User saved = userRepository.save(user);
+        userRepository.incrementDataVersion(userId);
         return userMapper.toResponse(saved);
     }
 
@@ -64,6 +69,15 @@ public class UserServiceImpl implements UserService {
         return userMapper.toResponse(foundUser);
     }
 
+    /**
+     * Дешевая проверка перед чтением: версия меняется при любом изменении пользователя или его напоминаний.
+     */
+    @Override
+    public long findDataVersion(Long userId) {
+        return userRepository.findDataVersionById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " was not found"));
+    }
+
     @Override
     public void deleteById(Long userId) {
         userRepository.deleteById(userId);
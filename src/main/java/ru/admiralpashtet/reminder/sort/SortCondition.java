@@ -1,5 +1,5 @@
 package ru.admiralpashtet.reminder.sort;
 
 public enum SortCondition {
-    TITLE, DESCRIPTION, REMIND
+    TITLE, DESCRIPTION, REMIND, RELEVANCE
 }
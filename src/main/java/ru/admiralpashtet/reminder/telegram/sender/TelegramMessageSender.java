@@ -9,7 +9,7 @@ import org.telegram.telegrambots.meta.api.methods.ParseMode;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.generics.TelegramClient;
-import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
 import ru.admiralpashtet.reminder.util.Message;
 
 @Slf4j
@@ -33,21 +33,21 @@ public class TelegramMessageSender {
         }
     }
 
-    public void sendMessage(Reminder reminder) {
-        Long chatId = reminder.getUser().getTelegramData().getChatId();
+    public void sendMessage(DueReminder reminder) {
+        Long chatId = reminder.telegramChatId();
         if (chatId == null) {
             log.warn("Telegram chat for user with id {} was not found. Reminder will not be sent in telegram",
-                    reminder.getUser().getId());
+                    reminder.userId());
             return;
         }
         SendMessage message = SendMessage.builder()
                 .chatId(chatId)
                 .parseMode(ParseMode.MARKDOWNV2)
-                .text(Message.REMINDER_DEFAULT_TEMPLATE.format(reminder.getTitle(), reminder.getDescription()))
+                .text(Message.REMINDER_DEFAULT_TEMPLATE.format(reminder.title(), reminder.description()))
                 .build();
         try {
             telegramClient.execute(message);
-            log.info("Reminder with id {} was sent successfully by telegram", reminder.getId());
+            log.info("Reminder with id {} was sent successfully by telegram", reminder.id());
         } catch (TelegramApiException e) {
             throw new RuntimeException(e);
         }
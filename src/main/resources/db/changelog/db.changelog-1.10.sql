@@ -0,0 +1,4 @@
+-- changeset pavel.vlezko:11
+-- порядок индекса совпадает с порядком ленты, страница по курсору читается диапазоном индекса без сортировки
+CREATE INDEX reminders_user_remind_id_idx
+    ON Reminders (user_id, remind, id);
@@ -0,0 +1,13 @@
+-- changeset pavel.vlezko:12
+CREATE TABLE user_reminder_counters
+(
+    user_id BIGINT PRIMARY KEY REFERENCES Users (id) ON DELETE CASCADE,
+    total   BIGINT NOT NULL DEFAULT 0,
+    pending BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO user_reminder_counters (user_id, total, pending)
+SELECT u.id, count(r.id), count(r.id) FILTER (WHERE r.status = 'PENDING')
+FROM Users u
+         LEFT JOIN Reminders r ON r.user_id = u.id
+GROUP BY u.id;
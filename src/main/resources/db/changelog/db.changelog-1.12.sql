@@ -0,0 +1,17 @@
+-- changeset pavel.vlezko:13
+ALTER TABLE Reminders
+    ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+CREATE INDEX reminders_user_updated_at_idx
+    ON Reminders (user_id, updated_at);
+
+-- id удаленных напоминаний для синхронизации клиентов, хранятся reminders.sync.tombstone-retention-days
+CREATE TABLE reminder_tombstones
+(
+    reminder_id BIGINT PRIMARY KEY,
+    user_id     BIGINT    NOT NULL REFERENCES Users (id) ON DELETE CASCADE,
+    deleted_at  TIMESTAMP NOT NULL
+);
+
+CREATE INDEX reminder_tombstones_user_deleted_at_idx
+    ON reminder_tombstones (user_id, deleted_at);
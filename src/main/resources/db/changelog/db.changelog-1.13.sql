@@ -0,0 +1,3 @@
+-- changeset pavel.vlezko:14
+ALTER TABLE Users
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
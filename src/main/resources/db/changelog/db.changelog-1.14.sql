@@ -0,0 +1,14 @@
+-- changeset pavel.vlezko:15
+-- Hibernate берет идентификаторы блоками по 50 (оптимизатор pooled): nextval отдает верхнюю границу блока.
+-- Сначала сдвигаем последовательность за последний выданный номер, чтобы первый блок не задел уже выданные id,
+-- в том числе id удаленных напоминаний, которые еще лежат в reminder_tombstones. Нетронутую последовательность
+-- возвращаем к началу: первый блок с единицы Hibernate обрабатывает сам
+SELECT CASE WHEN n = 1 THEN setval('reminders_id_seq', 1, false) ELSE setval('reminders_id_seq', n) END
+FROM (SELECT nextval('reminders_id_seq') AS n) next_id;
+ALTER SEQUENCE reminders_id_seq INCREMENT BY 50;
+
+SELECT CASE WHEN n = 1 THEN setval(pg_get_serial_sequence('users', 'id'), 1, false)
+            ELSE setval(pg_get_serial_sequence('users', 'id'), n) END
+FROM (SELECT nextval(pg_get_serial_sequence('users', 'id')) AS n) next_id;
+ALTER TABLE Users
+    ALTER COLUMN id SET INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- changeset pavel.vlezko:16
+-- завершенные записи удаляются по created_at, ожидающие в этот индекс не попадают
+CREATE INDEX notification_outbox_finished_idx
+    ON notification_outbox (created_at)
+    WHERE status <> 'PENDING';
@@ -0,0 +1,7 @@
+-- changeset pavel.vlezko:4
+ALTER TABLE Reminders
+    ADD COLUMN lease_owner VARCHAR(128);
+ALTER TABLE Reminders
+    ADD COLUMN lease_until TIMESTAMP;
+ALTER TABLE Reminders
+    ADD COLUMN sent_at TIMESTAMP;
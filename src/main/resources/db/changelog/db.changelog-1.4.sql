@@ -0,0 +1,19 @@
+-- changeset pavel.vlezko:5
+CREATE TABLE notification_outbox
+(
+    id           BIGINT PRIMARY KEY GENERATED BY DEFAULT AS IDENTITY,
+    reminder_id  BIGINT      NOT NULL,
+    channel      VARCHAR(16) NOT NULL,
+    due_at       TIMESTAMP   NOT NULL,
+    status       VARCHAR(16) NOT NULL,
+    attempts     INT         NOT NULL DEFAULT 0,
+    available_at TIMESTAMP   NOT NULL,
+    created_at   TIMESTAMP   NOT NULL,
+    delivered_at TIMESTAMP,
+    last_error   VARCHAR(1024),
+    UNIQUE (reminder_id, channel, due_at)
+);
+
+CREATE INDEX notification_outbox_pending_idx
+    ON notification_outbox (channel, available_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,13 @@
+-- changeset pavel.vlezko:6
+ALTER TABLE Reminders
+    ADD COLUMN status VARCHAR(16) NOT NULL DEFAULT 'PENDING';
+
+-- прошедшие напоминания уже обработаны своей минутой опроса, в частичный индекс попадает только будущее
+UPDATE Reminders
+SET status = 'SENT'
+WHERE sent_at IS NOT NULL
+   OR remind < now();
+
+CREATE INDEX reminders_pending_remind_idx
+    ON Reminders (remind)
+    WHERE status = 'PENDING';
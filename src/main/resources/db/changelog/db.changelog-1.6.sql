@@ -0,0 +1,42 @@
+-- changeset pavel.vlezko:7
+ALTER TABLE Reminders
+    RENAME TO reminders_legacy;
+ALTER TABLE reminders_legacy
+    RENAME CONSTRAINT reminders_pkey TO reminders_legacy_pkey;
+ALTER TABLE reminders_legacy
+    ALTER COLUMN id DROP IDENTITY;
+DROP INDEX reminders_pending_remind_idx;
+
+-- identity на секционированной таблице заменяем обычной последовательностью, первичный ключ обязан включать remind
+CREATE SEQUENCE reminders_id_seq;
+
+CREATE TABLE Reminders
+(
+    id          BIGINT       NOT NULL DEFAULT nextval('reminders_id_seq'),
+    title       VARCHAR(255),
+    description VARCHAR(4096),
+    remind      TIMESTAMP    NOT NULL,
+    user_id     BIGINT       NOT NULL REFERENCES Users (id) ON DELETE CASCADE,
+    lease_owner VARCHAR(128),
+    lease_until TIMESTAMP,
+    sent_at     TIMESTAMP,
+    status      VARCHAR(16)  NOT NULL DEFAULT 'PENDING',
+    PRIMARY KEY (id, remind)
+) PARTITION BY RANGE (remind);
+
+ALTER SEQUENCE reminders_id_seq OWNED BY Reminders.id;
+
+-- помесячные секции создает PartitionMaintenanceServiceImpl, перенося в них строки из секции по умолчанию
+CREATE TABLE reminders_default PARTITION OF Reminders DEFAULT;
+
+INSERT INTO Reminders (id, title, description, remind, user_id, lease_owner, lease_until, sent_at, status)
+SELECT id, title, description, remind, user_id, lease_owner, lease_until, sent_at, status
+FROM reminders_legacy;
+
+SELECT setval('reminders_id_seq', COALESCE((SELECT max(id) FROM Reminders), 0) + 1, false);
+
+DROP TABLE reminders_legacy;
+
+CREATE INDEX reminders_pending_remind_idx
+    ON Reminders (remind)
+    WHERE status = 'PENDING';
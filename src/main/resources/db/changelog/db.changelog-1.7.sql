@@ -0,0 +1,6 @@
+-- changeset pavel.vlezko:8
+CREATE TABLE dispatch_watermark
+(
+    name             VARCHAR(64) PRIMARY KEY,
+    dispatched_until TIMESTAMP NOT NULL
+);
@@ -0,0 +1,11 @@
+-- changeset pavel.vlezko:9
+-- конфигурация russian стеммит кириллицу русским словарем, а латиницу английским
+ALTER TABLE Reminders
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('russian', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('russian', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX reminders_search_vector_idx
+    ON Reminders USING GIN (search_vector);
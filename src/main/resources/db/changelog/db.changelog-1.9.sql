@@ -0,0 +1,9 @@
+-- changeset pavel.vlezko:10
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- индексы покрывают lower(...) LIKE '%слово%' из поиска по ключевым словам и операторы <% нечеткого поиска
+CREATE INDEX reminders_title_trgm_idx
+    ON Reminders USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX reminders_description_trgm_idx
+    ON Reminders USING GIN (lower(description) gin_trgm_ops);
@@ -0,0 +1,75 @@
+package ru.admiralpashtet.reminder.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderSearchCacheTest {
+    private static final SearchRequest SEARCH_REQUEST =
+            DataUtils.getSearchRequest(null, null, null, "remind", true, 0, 10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderSearchCache searchCache;
+    private AtomicInteger loads;
+    private Supplier<Page<ReminderResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new ReminderSearchCache(meterRegistry, 100, 60);
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return DataUtils.getPageOfReminderResponsesForOneUser();
+        };
+    }
+
+    @Test
+    @DisplayName("Test same search with same data version is loaded once")
+    void givenSameKey_whenGetCalledTwice_thenLoadedOnceAndHitRecorded() {
+        // when
+        searchCache.get(1L, 3L, SEARCH_REQUEST, loader);
+        searchCache.get(1L, 3L, SEARCH_REQUEST, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "reminder.search").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Test new data version is not served from old entries")
+    void givenNewDataVersion_whenGetCalled_thenLoadedAgain() {
+        // when
+        searchCache.get(1L, 3L, SEARCH_REQUEST, loader);
+        searchCache.get(1L, 4L, SEARCH_REQUEST, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test new data version of one user does not reload other users")
+    void givenNewDataVersionOfOneUser_whenGetCalled_thenOnlyThatUserReloaded() {
+        // given
+        searchCache.get(1L, 3L, SEARCH_REQUEST, loader);
+        searchCache.get(2L, 3L, SEARCH_REQUEST, loader);
+
+        // when
+        searchCache.get(1L, 4L, SEARCH_REQUEST, loader);
+        searchCache.get(2L, 3L, SEARCH_REQUEST, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
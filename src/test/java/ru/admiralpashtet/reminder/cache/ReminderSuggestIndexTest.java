@@ -0,0 +1,89 @@
+package ru.admiralpashtet.reminder.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import ru.admiralpashtet.reminder.dto.projection.ReminderTitle;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent.ChangeType;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReminderSuggestIndexTest {
+    private ReminderRepository reminderRepository;
+    private ReminderSuggestIndex suggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        reminderRepository = Mockito.mock(ReminderRepository.class);
+        suggestIndex = new ReminderSuggestIndex(reminderRepository, new SimpleMeterRegistry(), 100, 30);
+        BDDMockito.given(reminderRepository.findTitlesByUserId(1L))
+                .willReturn(List.of(
+                        new ReminderTitle(10L, "Team meeting"),
+                        new ReminderTitle(11L, "Meeting notes, meeting room"),
+                        new ReminderTitle(12L, "Call mom")));
+    }
+
+    @Test
+    @DisplayName("Test suggestions are built once from titles")
+    void givenTitles_whenSuggestCalledTwice_thenTitlesLoadedOnce() {
+        // when
+        List<String> first = suggestIndex.suggest(1L, " ME", 10);
+        List<String> second = suggestIndex.suggest(1L, "m", 2);
+
+        // then
+        assertThat(first).containsExactly("meeting");
+        assertThat(second).containsExactly("meeting", "mom");
+        assertThat(suggestIndex.suggest(1L, " ", 10)).isEmpty();
+        verify(reminderRepository, times(1)).findTitlesByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Test reminder changes update loaded index")
+    void givenReminderChangedEvents_whenSuggestCalled_thenIndexReflectsChanges() {
+        // given
+        suggestIndex.suggest(1L, "m", 10);
+        Reminder created = new Reminder();
+        created.setId(13L);
+        created.setTitle("Medicine");
+        Reminder updated = new Reminder();
+        updated.setId(12L);
+        updated.setTitle("Call dad");
+
+        // when
+        suggestIndex.onReminderChanged(new ReminderChangedEvent(ChangeType.CREATED, 13L, 1L, created));
+        suggestIndex.onReminderChanged(new ReminderChangedEvent(ChangeType.UPDATED, 12L, 1L, updated));
+        suggestIndex.onReminderChanged(new ReminderChangedEvent(ChangeType.DELETED, 10L, 1L, null));
+
+        // then
+        assertThat(suggestIndex.suggest(1L, "m", 10)).containsExactly("medicine", "meeting");
+        assertThat(suggestIndex.suggest(1L, "t", 10)).isEmpty();
+        assertThat(suggestIndex.suggest(1L, "d", 10)).containsExactly("dad");
+    }
+
+    @Test
+    @DisplayName("Test batch creation rebuilds loaded index")
+    void givenBulkCreatedEvent_whenSuggestCalled_thenTitlesReloaded() {
+        // given
+        suggestIndex.suggest(1L, "m", 10);
+        BDDMockito.given(reminderRepository.findTitlesByUserId(1L))
+                .willReturn(List.of(new ReminderTitle(13L, "Medicine")));
+
+        // when
+        suggestIndex.onRemindersBulkChanged(new ReminderBulkChangedEvent(ChangeType.CREATED, 1L, List.of(13L)));
+
+        // then
+        assertThat(suggestIndex.suggest(1L, "m", 10)).containsExactly("medicine");
+        verify(reminderRepository, times(2)).findTitlesByUserId(1L);
+    }
+}
@@ -5,6 +5,7 @@ import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -12,28 +13,43 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import ru.admiralpashtet.reminder.config.TestConfig;
+import ru.admiralpashtet.reminder.dto.request.ReminderBatchRequest;
+import ru.admiralpashtet.reminder.dto.request.ReminderFilterRequest;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.ScrollRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
+import ru.admiralpashtet.reminder.dto.response.ChangesResponse;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+import ru.admiralpashtet.reminder.dto.response.ScrollResponse;
 import ru.admiralpashtet.reminder.entity.CustomUserPrincipal;
 import ru.admiralpashtet.reminder.entity.Reminder;
 import ru.admiralpashtet.reminder.exception.AccessDeniedException;
 import ru.admiralpashtet.reminder.exception.ReminderNotFoundException;
+import ru.admiralpashtet.reminder.exception.UserNotFoundException;
+import ru.admiralpashtet.reminder.export.ExportFormat;
 import ru.admiralpashtet.reminder.mapper.MapperHelper;
 import ru.admiralpashtet.reminder.mapper.ReminderMapper;
 import ru.admiralpashtet.reminder.mapper.ReminderMapperImpl;
 import ru.admiralpashtet.reminder.repository.UserRepository;
+import ru.admiralpashtet.reminder.service.ExportService;
 import ru.admiralpashtet.reminder.service.ReminderService;
+import ru.admiralpashtet.reminder.service.SyncService;
 import ru.admiralpashtet.reminder.service.UserService;
 import ru.admiralpashtet.reminder.util.DataUtils;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -54,6 +70,10 @@ class ReminderControllerTest {
     @MockitoBean
     private ReminderService reminderService;
     @MockitoBean
+    private SyncService syncService;
+    @MockitoBean
+    private ExportService exportService;
+    @MockitoBean
     private UserRepository userRepository;          // mock for UserMapperHelper@MockitoBean
     @MockitoBean
     private UserService userService;                // mock for SecurityConfig
@@ -167,7 +187,7 @@ class ReminderControllerTest {
         // given
         Page<Reminder> entityPage = DataUtils.getPageOfRemindersPersisted();
         Page<ReminderResponse> responsePage = DataUtils.getPageOfReminderResponsesForOneUser();
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -192,6 +212,369 @@ class ReminderControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(entityPage.getContent().size())));
     }
 
+    @Test
+    @DisplayName("Test scroll reminders functionality")
+    void givenReminders_whenScrollCalled_thenReturnSliceWithNextCursor() throws Exception {
+        // given
+        List<ReminderResponse> content = DataUtils.getPageOfReminderResponsesForOneUser().getContent().subList(0, 2);
+        ScrollResponse<ReminderResponse> scrollResponse = new ScrollResponse<>(content, "next", true);
+
+        BDDMockito.when(reminderService.scroll(isNotNull(), any(ScrollRequest.class)))
+                .thenReturn(scrollResponse);
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/scroll")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .queryParam("asc", "true")
+                .queryParam("size", "2"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", CoreMatchers.is("next")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test scroll reminders without query parameters functionality")
+    void givenNoQueryParameters_whenScrollCalled_thenApplyDocumentedDefaults() throws Exception {
+        // given
+        BDDMockito.when(reminderService.scroll(isNotNull(), eq(new ScrollRequest(null, true, 10))))
+                .thenReturn(new ScrollResponse<>(List.of(), null, false));
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/scroll")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser()));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(0)));
+    }
+
+    @Test
+    @DisplayName("Test find all reminders with matching ETag functionality")
+    void givenUnchangedData_whenFindAllCalledWithETag_thenReturnNotModifiedWithoutSearch() throws Exception {
+        // given
+        SearchRequest searchRequest = DataUtils.getSearchRequest(null, null, null, "remind", true, 0, 10);
+        BDDMockito.when(userService.findDataVersion(anyLong()))
+                .thenReturn(3L);
+        BDDMockito.when(reminderService.findAll(isNotNull(), any(SearchRequest.class)))
+                .thenReturn(DataUtils.getPageOfReminderResponsesForOneUser());
+
+        String eTag = mockMvc.perform(get("/api/v1/reminders")
+                        .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(searchRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchRequest)));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isNotModified());
+        BDDMockito.verify(reminderService, Mockito.times(1)).findAll(isNotNull(), any(SearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test search reminders by query parameters functionality")
+    void givenQueryParameters_whenSearchCalled_thenBindSearchRequestAndReturnCacheHeaders() throws Exception {
+        // given
+        SearchRequest expected = new SearchRequest("sanya+birthday", LocalDate.of(2025, 5, 6), null, "remind",
+                false, 0, 10, "keywords", null, null, null);
+        BDDMockito.when(userService.findDataVersion(anyLong()))
+                .thenReturn(3L);
+        BDDMockito.when(reminderService.findAll(isNotNull(), eq(expected)))
+                .thenReturn(DataUtils.getPageOfReminderResponsesForOneUser());
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/search")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .queryParam("size", "10")
+                .queryParam("page", "0")
+                .queryParam("asc", "false")
+                .queryParam("sortBy", "REMIND")
+                .queryParam("searchMode", "Keywords")
+                .queryParam("searchByDate", "2025-05-06")
+                .queryParam("searchQuery", " sanya+birthday "));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, private"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_LOCATION,
+                        "/api/v1/reminders/search?searchQuery=sanya%2Bbirthday&searchByDate=2025-05-06" +
+                                "&searchMode=keywords&sortBy=remind&asc=false&page=0&size=10"))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Test search reminders without query parameters functionality")
+    void givenNoQueryParameters_whenSearchCalled_thenApplyDocumentedDefaults() throws Exception {
+        // given
+        SearchRequest expected = DataUtils.getSearchRequest(null, null, null, "remind", true, 0, 10);
+        BDDMockito.when(reminderService.findAll(isNotNull(), eq(expected)))
+                .thenReturn(DataUtils.getPageOfReminderResponsesForOneUser());
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/search")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser()));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_LOCATION,
+                        "/api/v1/reminders/search?sortBy=remind&asc=true&page=0&size=10"));
+        BDDMockito.verify(reminderService).findAll(isNotNull(), eq(expected));
+    }
+
+    @Test
+    @DisplayName("Test search reminders by query parameters with invalid page size functionality")
+    void givenZeroPageSize_whenSearchCalled_thenReturnBadRequest() throws Exception {
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/search")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .queryParam("sortBy", "remind")
+                .queryParam("size", "0"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isBadRequest());
+        BDDMockito.verify(reminderService, Mockito.never()).findAll(anyLong(), any(SearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test get changes since token functionality")
+    void givenSyncToken_whenGetChangesCalled_thenReturnChangesAndNextToken() throws Exception {
+        // given
+        ChangesResponse changesResponse = new ChangesResponse(List.of(DataUtils.getReminderResponse()), List.of(7L), "next");
+
+        BDDMockito.when(syncService.findChanges(isNotNull(), eq("token")))
+                .thenReturn(changesResponse);
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/changes")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .param("since", "token"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changed.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted[0]", CoreMatchers.is(7)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextToken", CoreMatchers.is("next")));
+    }
+
+    @Test
+    @DisplayName("Test suggest functionality")
+    void givenPrefix_whenSuggestCalled_thenReturnWords() throws Exception {
+        // given
+        BDDMockito.when(reminderService.suggest(isNotNull(), eq("mee"), eq(10)))
+                .thenReturn(List.of("meeting", "meet"));
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/suggest")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .param("prefix", "mee"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0]", CoreMatchers.is("meeting")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1]", CoreMatchers.is("meet")));
+    }
+
+    @Test
+    @DisplayName("Test csv export functionality")
+    void givenCsvFormat_whenExportCalled_thenStreamRowsAsAttachment() throws Exception {
+        // given
+        BDDMockito.willAnswer(invocation -> {
+                    OutputStream outputStream = invocation.getArgument(2);
+                    outputStream.write("id,title,description,remind,status\r\n".getBytes(StandardCharsets.UTF_8));
+                    return null;
+                })
+                .given(exportService).export(anyLong(), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reminders/export")
+                        .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                        .param("format", "csv"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reminders.csv\""))
+                .andExpect(MockMvcResultMatchers.content().string("id,title,description,remind,status\r\n"));
+    }
+
+    @Test
+    @DisplayName("Test export with unknown format functionality")
+    void givenUnknownFormat_whenExportCalled_thenReturnBadRequest() throws Exception {
+        // given
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/export")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .param("format", "xml"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isBadRequest());
+        BDDMockito.verifyNoInteractions(exportService);
+    }
+
+    @Test
+    @DisplayName("Test reminder creation for deleted user functionality")
+    void givenDeletedUser_whenCreateCalled_thenReturnNotFound() throws Exception {
+        // given
+        BDDMockito.given(reminderService.create(any(ReminderRequest.class), anyLong()))
+                .willThrow(new UserNotFoundException("User with id 1 was not found"));
+
+        // when
+        ResultActions perform = mockMvc.perform(post("/api/v1/reminders")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(DataUtils.getReminderRequest())));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is("User with id 1 was not found")));
+    }
+
+    @Test
+    @DisplayName("Test batch reminder creation functionality")
+    void givenValidBatchRequest_whenCreateAllCalled_thenReturnCreatedReminders() throws Exception {
+        // given
+        ReminderBatchRequest batchRequest = new ReminderBatchRequest(
+                List.of(DataUtils.getReminderRequest(), DataUtils.getReminderRequest()));
+        ReminderResponse reminderResponse = DataUtils.getReminderResponse();
+
+        BDDMockito.given(reminderService.createAll(anyList(), anyLong()))
+                .willReturn(List.of(reminderResponse, reminderResponse));
+
+        // when
+        ResultActions perform = mockMvc.perform(post("/api/v1/reminders/batch")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].title", CoreMatchers.is(reminderResponse.title())));
+    }
+
+    @Test
+    @DisplayName("Test batch reminder creation with invalid reminder functionality")
+    void givenBatchWithoutRemindTime_whenCreateAllCalled_thenReturnBadRequest() throws Exception {
+        // given
+        ReminderBatchRequest batchRequest = new ReminderBatchRequest(
+                List.of(DataUtils.getReminderRequest(), new ReminderRequest("title", "description", null)));
+
+        // when
+        ResultActions perform = mockMvc.perform(post("/api/v1/reminders/batch")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isBadRequest());
+        BDDMockito.verify(reminderService, Mockito.never()).createAll(anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Test bulk reschedule functionality")
+    void givenRescheduleRequest_whenRescheduleAllCalled_thenReturnAffectedCount() throws Exception {
+        // given
+        BDDMockito.given(reminderService.rescheduleAll(anyLong(), any(ReminderFilterRequest.class),
+                        eq(Duration.ofHours(2))))
+                .willReturn(3);
+
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/reminders/bulk")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\":{\"from\":\"2025-03-16\",\"to\":\"2025-03-16\"},\"shift\":\"PT2H\"}"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.affected", CoreMatchers.is(3)));
+    }
+
+    @Test
+    @DisplayName("Test bulk reschedule without shift functionality")
+    void givenRescheduleRequestWithoutShift_whenRescheduleAllCalled_thenReturnBadRequest() throws Exception {
+        // given
+        String content = "{\"filter\":{\"ids\":[1,2]}}";
+
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/reminders/bulk")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isBadRequest());
+        BDDMockito.verify(reminderService, Mockito.never()).rescheduleAll(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test bulk delete functionality")
+    void givenFilterRequest_whenDeleteAllCalled_thenReturnAffectedCount() throws Exception {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(List.of(1L, 2L), null, null, null);
+        BDDMockito.given(reminderService.deleteAll(anyLong(), eq(filterRequest)))
+                .willReturn(2);
+
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/reminders/bulk")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filterRequest)));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.affected", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test get calendar functionality")
+    void givenRange_whenGetCalendarCalled_thenReturnCountsPerDay() throws Exception {
+        // given
+        BDDMockito.when(reminderService.countByDay(isNotNull(), eq(LocalDate.of(2025, 3, 1)), eq(LocalDate.of(2025, 3, 31))))
+                .thenReturn(List.of(new CalendarDayResponse(LocalDate.of(2025, 3, 16), 2L)));
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders/calendar")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .param("from", "2025-03-01")
+                .param("to", "2025-03-31"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].day", CoreMatchers.is("2025-03-16")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].reminders", CoreMatchers.is(2)));
+    }
+
     @Test
     @DisplayName("Test find all reminders by search query functionality")
     void givenFiveReminders_whenFindAllCalledWithSearchQuery_thenReturnPageWithFoundedReminders() throws Exception {
@@ -207,7 +590,7 @@ class ReminderControllerTest {
         Page<ReminderResponse> filteredPage = new PageImpl<>(filteredReminders,
                 PageRequest.of(0, 10), allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 null,
                 null,
@@ -240,7 +623,7 @@ class ReminderControllerTest {
         Page<ReminderResponse> page = new PageImpl<>(Collections.emptyList(),
                 PageRequest.of(0, 10), 5);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 null,
                 null,
@@ -278,7 +661,7 @@ class ReminderControllerTest {
         Page<ReminderResponse> filteredPage =
                 new PageImpl<>(filtered, PageRequest.of(0, 10), allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 date,
                 null,
@@ -317,7 +700,7 @@ class ReminderControllerTest {
         Page<ReminderResponse> filteredPage = new PageImpl<>(filtered, PageRequest.of(0, 10),
                 allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 time,
@@ -355,7 +738,7 @@ class ReminderControllerTest {
                 .toList();
         Page<ReminderResponse> filteredPage = new PageImpl<>(filtered, PageRequest.of(0, 10), allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 dateTime.toLocalDate(),
                 dateTime.toLocalTime(),
@@ -403,7 +786,7 @@ class ReminderControllerTest {
                 PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.ASC, sortBy)),
                 sorted.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 first.getRemind().toLocalDate(),
                 first.getRemind().toLocalTime(),
@@ -444,7 +827,7 @@ class ReminderControllerTest {
                 PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.ASC, sortBy)),
                 sorted.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -485,7 +868,7 @@ class ReminderControllerTest {
                 PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.ASC, sortBy)),
                 allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -525,7 +908,7 @@ class ReminderControllerTest {
                 PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.ASC, sortBy)),
                 sorted.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -556,7 +939,7 @@ class ReminderControllerTest {
         // given
         String invalidSortByParam = "invalid";
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, invalidSortByParam, true, 0, 10);
+                DataUtils.getSearchRequest(null, null, null, invalidSortByParam, true, 0, 10);
         BDDMockito
                 .given(reminderService.findAll(1L, searchRequest))
                 .willThrow(new IllegalArgumentException("Illegal argument in \"sortBy\" URI parameter. Expected: {title, description, remind}"));
@@ -587,7 +970,7 @@ class ReminderControllerTest {
                         PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.DESC, sortBy)),
                         sortedReminderResponse.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -620,7 +1003,7 @@ class ReminderControllerTest {
         // given
         int invalidPageNumber = -5;
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, "remind", true, invalidPageNumber, 10);
+                DataUtils.getSearchRequest(null, null, null, "remind", true, invalidPageNumber, 10);
         BDDMockito
                 .given(reminderService.findAll(1L, searchRequest))
                 .willThrow(new IllegalArgumentException("Page index must not be less than zero"));
@@ -654,7 +1037,7 @@ class ReminderControllerTest {
                 PageRequest.of(page, size),
                 allReminders.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -686,7 +1069,7 @@ class ReminderControllerTest {
         // given
         int invalidSize = -10;
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, "remind", true, 0, invalidSize);
+                DataUtils.getSearchRequest(null, null, null, "remind", true, 0, invalidSize);
         BDDMockito
                 .given(reminderService.findAll(1L, searchRequest))
                 .willThrow(new IllegalArgumentException("Page size must not be less than one"));
@@ -744,7 +1127,7 @@ class ReminderControllerTest {
                         PageRequest.of(0, allReminders.size(), Sort.by(Sort.Direction.DESC, sortBy)),
                         filtered.size());
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -5,9 +5,11 @@ import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -77,6 +79,44 @@ class UserControllerTest {
                         CoreMatchers.is("The email must be in the correct format.")));
     }
 
+    @Test
+    @DisplayName("Test get user info with matching ETag functionality")
+    void givenMatchingETag_whenGetUserInfo_thenReturnNotModified() throws Exception {
+        // given
+        BDDMockito.given(userService.findDataVersion(anyLong()))
+                .willReturn(7L);
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""));
+
+        // then
+        perform.andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        BDDMockito.verify(userService, Mockito.never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Test get user info with stale ETag functionality")
+    void givenStaleETag_whenGetUserInfo_thenReturnUserResponseWithNewETag() throws Exception {
+        // given
+        BDDMockito.given(userService.findDataVersion(anyLong()))
+                .willReturn(8L);
+        BDDMockito.given(userService.findById(anyLong()))
+                .willReturn(new UserResponse("mock@mock.mock", "mock"));
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""));
+
+        // then
+        perform.andDo(print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"8\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.reminderEmail", CoreMatchers.is("mock@mock.mock")));
+    }
+
     @Test
     @DisplayName("Test user delete functionality")
     void delete() throws Exception {
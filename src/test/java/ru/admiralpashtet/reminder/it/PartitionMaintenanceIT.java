@@ -0,0 +1,155 @@
+package ru.admiralpashtet.reminder.it;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.telegram.telegrambots.longpolling.starter.TelegramBotInitializer;
+import ru.admiralpashtet.reminder.entity.ReminderStatus;
+import ru.admiralpashtet.reminder.repository.UserRepository;
+import ru.admiralpashtet.reminder.service.PartitionMaintenanceService;
+import ru.admiralpashtet.reminder.service.impl.EmailNotificationSenderService;
+import ru.admiralpashtet.reminder.service.impl.TelegramNotificationSenderService;
+import ru.admiralpashtet.reminder.telegram.listener.TelegramUpdateListener;
+import ru.admiralpashtet.reminder.telegram.sender.TelegramMessageSender;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Проверяет обслуживание секций на настоящем PostgreSQL: перенос строк из секции по умолчанию,
+ * подключение секции со сгенерированной колонкой search_vector и отсоединение секций по сроку хранения.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "schedule.notifier.cron=-") // опрос не должен просрочить ожидающие строки прошлых месяцев
+class PartitionMaintenanceIT extends BaseIT {
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private PartitionMaintenanceService partitionMaintenanceService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Value("${reminders.partitioning.retention-months}")
+    private int retentionMonths;
+    @MockitoBean
+    private EmailNotificationSenderService emailNotificationSenderService;
+    @MockitoBean
+    private TelegramNotificationSenderService telegramNotificationSenderService;
+    @MockitoBean
+    private TelegramBotInitializer telegramBotInitializer;
+    @MockitoBean
+    private TelegramMessageSender telegramMessageSender;
+    @MockitoBean
+    private TelegramUpdateListener telegramUpdateListener;
+
+    private Long userId;
+
+    @BeforeAll
+    void userInit() {
+        if (userRepository.count() == 0) {
+            userRepository.save(DataUtils.mockUser(null));
+        }
+        userId = jdbcTemplate.queryForObject("SELECT min(id) FROM Users", Long.class);
+    }
+
+    @Test
+    @DisplayName("Test rows of a new month are moved out of the default partition and stay searchable")
+    void givenRowsInDefaultPartition_whenMaintainCalled_thenPartitionCreatedAndRowsMoved() {
+        // given
+        YearMonth month = YearMonth.now().plusYears(5);
+        Long id = insertReminder(month.atDay(10).atTime(9, 0), ReminderStatus.PENDING);
+
+        // when
+        partitionMaintenanceService.maintain();
+
+        // then
+        assertThat(isAttached(month)).isTrue();
+        assertThat(countById("reminders_default", id)).isZero();
+        assertThat(countById(partitionName(month), id)).isEqualTo(1);
+        Boolean found = jdbcTemplate.queryForObject(
+                "SELECT search_vector @@ plainto_tsquery('russian', 'молоко') FROM Reminders WHERE id = ?",
+                Boolean.class, id);
+        assertThat(found).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test expired partition with delivered and expired reminders is detached and dropped")
+    void givenExpiredPartitionWithoutPendingReminders_whenMaintainCalled_thenPartitionDropped() {
+        // given
+        YearMonth month = YearMonth.now().minusMonths(retentionMonths + 1);
+        createPartition(month);
+        Long sent = insertReminder(month.atDay(5).atTime(12, 0), ReminderStatus.SENT);
+        Long expired = insertReminder(month.atDay(6).atTime(12, 0), ReminderStatus.EXPIRED);
+
+        // when
+        partitionMaintenanceService.maintain();
+
+        // then
+        assertThat(isAttached(month)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL", Boolean.class, partitionName(month)))
+                .isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM reminder_tombstones WHERE reminder_id IN (?, ?)", Integer.class, sent, expired))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test expired partition with a pending reminder stays attached")
+    void givenExpiredPartitionWithPendingReminder_whenMaintainCalled_thenPartitionKept() {
+        // given
+        YearMonth month = YearMonth.now().minusMonths(retentionMonths + 2);
+        createPartition(month);
+        Long pending = insertReminder(month.atDay(5).atTime(12, 0), ReminderStatus.PENDING);
+
+        // when
+        partitionMaintenanceService.maintain();
+
+        // then
+        assertThat(isAttached(month)).isTrue();
+        assertThat(countById(partitionName(month), pending)).isEqualTo(1);
+    }
+
+    private Long insertReminder(LocalDateTime remind, ReminderStatus status) {
+        return jdbcTemplate.queryForObject("""
+                        INSERT INTO Reminders (title, description, remind, user_id, status)
+                        VALUES ('Купить молоко', 'Зайти в магазин после работы', ?, ?, ?)
+                        RETURNING id""",
+                Long.class, Timestamp.valueOf(remind), userId, status.name());
+    }
+
+    private void createPartition(YearMonth month) {
+        DateTimeFormatter bound = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF Reminders "
+                + "FOR VALUES FROM ('" + month.atDay(1).format(bound) + "') "
+                + "TO ('" + month.plusMonths(1).atDay(1).format(bound) + "')");
+    }
+
+    private boolean isAttached(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_inherits
+                    JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                    JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                    WHERE parent.relname = 'reminders' AND child.relname = ?)""",
+                Boolean.class, partitionName(month)));
+    }
+
+    private int countById(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "reminders_p" + month.format(PARTITION_SUFFIX);
+    }
+}
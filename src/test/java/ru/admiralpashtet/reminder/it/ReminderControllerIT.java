@@ -18,6 +18,7 @@ import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
 import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.entity.ReminderStatus;
 import ru.admiralpashtet.reminder.entity.User;
 import ru.admiralpashtet.reminder.mapper.ReminderMapper;
 import ru.admiralpashtet.reminder.repository.ReminderRepository;
@@ -136,6 +137,30 @@ class ReminderControllerIT extends BaseIT {
     }
 
 
+    @Test
+    @DisplayName("Test bulk reschedule into the past keeps delivered reminder sent")
+    void givenSentReminder_whenRescheduledIntoPast_thenStatusKept() throws Exception {
+        // given
+        Reminder reminderTransient = DataUtils.getReminderTransient();
+        reminderTransient.setRemind(LocalDateTime.now().minusDays(1).withNano(0));
+        Reminder saved = reminderRepository.save(reminderTransient);
+        reminderRepository.markSent(List.of(saved.getId()), LocalDateTime.now());
+
+        // when
+        ResultActions perform = mockMvc.perform(MockMvcRequestBuilders.patch("/api/v1/reminders/bulk")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\":{\"ids\":[" + saved.getId() + "]},\"shift\":\"-PT1H\"}"));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.affected", CoreMatchers.is(1)));
+        Reminder rescheduled = reminderRepository.findById(saved.getId()).orElseThrow();
+        assertThat(rescheduled.getRemind()).isEqualTo(saved.getRemind().minusHours(1));
+        assertThat(rescheduled.getStatus()).isEqualTo(ReminderStatus.SENT);
+    }
+
     @Test
     @DisplayName("Test update not exists reminder functionality")
     void givenNotExistsReminder_whenUpdateCalled_thenReturnExceptionResponse() throws Exception {
@@ -187,7 +212,7 @@ class ReminderControllerIT extends BaseIT {
         reminderRepository.saveAll(list);
 
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, "remind", true, 0, 10);
+                DataUtils.getSearchRequest(null, null, null, "remind", true, 0, 10);
 
         // when
         ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
@@ -219,7 +244,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 null,
                 null,
@@ -242,12 +267,54 @@ class ReminderControllerIT extends BaseIT {
                         CoreMatchers.is((int) expectedSize)));
     }
 
+    @Test
+    @DisplayName("Test full text search ranked by relevance functionality")
+    void givenFiveReminders_whenGetAllCalledInFullTextMode_thenReturnStemmedMatchesByRelevance() throws Exception {
+        // given
+        List<Reminder> allReminders = DataUtils.getPageOfRemindersPersisted()
+                .getContent()
+                .stream()
+                .peek(reminder -> reminder.setId(null))
+                .toList();
+        long expectedSize = allReminders.stream()
+                .filter(r -> r.getTitle().toLowerCase().contains("meeting")
+                        || r.getDescription().toLowerCase().contains("meeting"))
+                .count();
+
+        reminderRepository.saveAll(allReminders);
+
+        SearchRequest searchRequest = new SearchRequest(
+                "meetings",
+                null,
+                null,
+                "relevance",
+                false,
+                0,
+                10,
+                "fulltext"
+        , null, null, null);
+
+        // when
+        ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
+                .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(searchRequest)));
+
+        // then
+        perform.andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()",
+                        CoreMatchers.is((int) expectedSize)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].title",
+                        CoreMatchers.containsString("Meeting")));
+    }
+
     @Test
     @DisplayName("Test find all reminders by not exists search query functionality")
     void givenNotExistsSearchQuery_whenGetAllCalledWithNotExistsSearchQuery_thenReturnBlankPage() throws Exception {
         // given
         String searchKeyword = "nonexistent";
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 null,
                 null,
@@ -285,7 +352,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 date,
                 null,
@@ -332,7 +399,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 time,
@@ -372,7 +439,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 dateTime.toLocalDate(),
                 dateTime.toLocalTime(),
@@ -419,7 +486,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 searchKeyword,
                 first.getRemind().toLocalDate(),
                 first.getRemind().toLocalTime(),
@@ -461,7 +528,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -511,7 +578,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -561,7 +628,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -600,7 +667,7 @@ class ReminderControllerIT extends BaseIT {
         // given
         String invalidSortByParam = "invalid";
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, invalidSortByParam, true, 0, 10);
+                DataUtils.getSearchRequest(null, null, null, invalidSortByParam, true, 0, 10);
 
         // when
         ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
@@ -630,7 +697,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -670,7 +737,7 @@ class ReminderControllerIT extends BaseIT {
         // given
         int invalidPageNumber = -5;
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, "remind", true, invalidPageNumber, 10);
+                DataUtils.getSearchRequest(null, null, null, "remind", true, invalidPageNumber, 10);
         // when
         ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
                 .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
@@ -703,7 +770,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(allReminders);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
@@ -740,7 +807,7 @@ class ReminderControllerIT extends BaseIT {
         // given
         int invalidSize = -10;
         SearchRequest searchRequest =
-                new SearchRequest(null, null, null, "remind", true, 0, invalidSize);
+                DataUtils.getSearchRequest(null, null, null, "remind", true, 0, invalidSize);
         // when
         ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
                 .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
@@ -760,7 +827,7 @@ class ReminderControllerIT extends BaseIT {
         // given
         String query = DataUtils.generateString(300);
         SearchRequest searchRequest =
-                new SearchRequest(query, null, null, "remind", true, 0, 10);
+                DataUtils.getSearchRequest(query, null, null, "remind", true, 0, 10);
 
         // when
         ResultActions perform = mockMvc.perform(get("/api/v1/reminders")
@@ -842,7 +909,7 @@ class ReminderControllerIT extends BaseIT {
 
         reminderRepository.saveAll(list);
 
-        SearchRequest searchRequest = new SearchRequest(
+        SearchRequest searchRequest = DataUtils.getSearchRequest(
                 null,
                 null,
                 null,
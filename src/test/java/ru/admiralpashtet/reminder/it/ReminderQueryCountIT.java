@@ -0,0 +1,99 @@
+package ru.admiralpashtet.reminder.it;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.telegram.telegrambots.longpolling.starter.TelegramBotInitializer;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.entity.User;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.repository.UserRepository;
+import ru.admiralpashtet.reminder.service.impl.EmailNotificationSenderService;
+import ru.admiralpashtet.reminder.service.impl.TelegramNotificationSenderService;
+import ru.admiralpashtet.reminder.telegram.listener.TelegramUpdateListener;
+import ru.admiralpashtet.reminder.telegram.sender.TelegramMessageSender;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Следит за числом обращений к БД на горячих путях записи по статистике Hibernate.
+ */
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // запросы планировщика не должны попадать в подсчет
+        "schedule.notifier.cron=-"})
+class ReminderQueryCountIT extends BaseIT {
+    @Autowired
+    private ReminderRepository reminderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockitoBean
+    private EmailNotificationSenderService emailNotificationSenderService;
+    @MockitoBean
+    private TelegramNotificationSenderService telegramNotificationSenderService;
+    @MockitoBean
+    private TelegramBotInitializer telegramBotInitializer;
+    @MockitoBean
+    private TelegramMessageSender telegramMessageSender;
+    @MockitoBean
+    private TelegramUpdateListener telegramUpdateListener;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void userInit() {
+        if (!userRepository.existsById(1L)) {
+            userRepository.save(DataUtils.mockUser(null));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void setUp() {
+        reminderRepository.deleteAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Test reminder creation runs only its own statements and does not load the user")
+    void givenValidReminderRequest_whenCreateCalled_thenOnlyReminderInserted() throws Exception {
+        // when
+        mockMvc.perform(post("/api/v1/reminders")
+                        .with(DataUtils.securityMockMvcRequestPostProcessorsWithMockUser())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getReminderRequest())))
+                .andExpect(status().isCreated());
+
+        // then
+        // nextval за блоком идентификаторов (первая вставка в этом контексте), insert напоминания,
+        // upsert счетчика и увеличение версии данных пользователя
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getFetchCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Reminder.class.getName()).getInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
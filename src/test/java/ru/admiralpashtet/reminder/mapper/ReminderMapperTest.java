@@ -20,7 +20,6 @@ import ru.admiralpashtet.reminder.telegram.sender.TelegramMessageSender;
 import ru.admiralpashtet.reminder.util.DataUtils;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -50,7 +49,7 @@ class ReminderMapperTest extends BaseIT {
         // Используем DataUtils для создания тестового пользователя
         testUser = DataUtils.mockUser();
         // При запросе любого userId возвращаем testUser
-        BDDMockito.when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        BDDMockito.when(userRepository.getReferenceById(anyLong())).thenReturn(testUser);
     }
 
     @Test
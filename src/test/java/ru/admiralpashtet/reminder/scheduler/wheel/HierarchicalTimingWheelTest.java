@@ -0,0 +1,84 @@
+package ru.admiralpashtet.reminder.scheduler.wheel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Test entry fires exactly on its tick")
+    void givenEntryInFirstLevel_whenAdvanceTo_thenFiresOnDeadline() {
+        // given
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(1000, 60, 4, START);
+        wheel.schedule(1L, START + 5_000, "first");
+
+        // when
+        List<String> beforeDeadline = wheel.advanceTo(START + 4_999);
+        List<String> onDeadline = wheel.advanceTo(START + 5_000);
+
+        // then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(onDeadline).containsExactly("first");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test entries from upper levels cascade down and fire in order")
+    void givenEntriesOnDifferentLevels_whenAdvanceTo_thenFireInDeadlineOrder() {
+        // given
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(1000, 60, 4, START);
+        wheel.schedule(1L, START + 3 * 3_600_000L, "three hours");
+        wheel.schedule(2L, START + 90_000, "ninety seconds");
+        wheel.schedule(3L, START + 30_000, "thirty seconds");
+
+        // when
+        List<String> firstMinute = wheel.advanceTo(START + 60_000);
+        List<String> secondMinute = wheel.advanceTo(START + 120_000);
+        List<String> almostThreeHours = wheel.advanceTo(START + 3 * 3_600_000L - 1_000);
+        List<String> threeHours = wheel.advanceTo(START + 3 * 3_600_000L);
+
+        // then
+        assertThat(firstMinute).containsExactly("thirty seconds");
+        assertThat(secondMinute).containsExactly("ninety seconds");
+        assertThat(almostThreeHours).isEmpty();
+        assertThat(threeHours).containsExactly("three hours");
+    }
+
+    @Test
+    @DisplayName("Test cancelled and rescheduled entries")
+    void givenCancelledAndRescheduledEntries_whenAdvanceTo_thenOnlyActualDeadlinesFire() {
+        // given
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(1000, 60, 4, START);
+        wheel.schedule(1L, START + 10_000, "cancelled");
+        wheel.schedule(2L, START + 10_000, "moved");
+        wheel.cancel(1L);
+        wheel.schedule(2L, START + 7_200_000, "moved");
+
+        // when
+        List<String> early = wheel.advanceTo(START + 60_000);
+        List<String> late = wheel.advanceTo(START + 7_200_000);
+
+        // then
+        assertThat(early).isEmpty();
+        assertThat(late).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Test overdue entry fires on the next tick")
+    void givenOverdueEntry_whenAdvanceTo_thenFiresOnNextTick() {
+        // given
+        HierarchicalTimingWheel<Long, String> wheel = new HierarchicalTimingWheel<>(1000, 60, 4, START);
+        wheel.schedule(1L, START - 30_000, "overdue");
+
+        // when
+        List<String> expired = wheel.advanceTo(START + 1_000);
+
+        // then
+        assertThat(expired).containsExactly("overdue");
+    }
+}
@@ -0,0 +1,54 @@
+package ru.admiralpashtet.reminder.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie();
+    }
+
+    @Test
+    @DisplayName("Test completion orders words by frequency then alphabetically")
+    void givenWords_whenCompleteCalled_thenMostFrequentFirst() {
+        // given
+        trie.add("meeting");
+        trie.add("meet");
+        trie.add("meeting");
+        trie.add("memo");
+        trie.add("call");
+
+        // when then
+        assertThat(trie.complete("me", 10)).containsExactly("meeting", "meet", "memo");
+        assertThat(trie.complete("me", 2)).containsExactly("meeting", "meet");
+        assertThat(trie.complete("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test removed words are not completed and empty branches are pruned")
+    void givenRemovedWords_whenCompleteCalled_thenOnlyRemainingWordsReturned() {
+        // given
+        trie.add("meeting");
+        trie.add("meeting");
+        trie.add("memo");
+
+        // when
+        trie.remove("meeting");
+        trie.remove("memo");
+        trie.remove("unknown");
+
+        // then
+        assertThat(trie.count("meeting")).isEqualTo(1);
+        assertThat(trie.complete("me", 10)).containsExactly("meeting");
+
+        trie.remove("meeting");
+        assertThat(trie.isEmpty()).isTrue();
+        assertThat(trie.complete("", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,73 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.service.impl.ClusterScheduleNotifier;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterScheduleNotifierTest {
+    @Mock
+    private ReminderService reminderService;
+    @Mock
+    private DispatchService dispatchService;
+    private ClusterScheduleNotifier scheduleNotifier;
+
+    @BeforeEach
+    void setUp() {
+        scheduleNotifier = new ClusterScheduleNotifier(reminderService, dispatchService, 60, 10, 2);
+    }
+
+    @Test
+    @DisplayName("Test claimed batches are dispatched and marked sent until backlog is drained")
+    void givenFullAndPartialBatch_whenDoNotifyCalled_thenAllBatchesDispatchedAndMarkedSent() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted();
+        List<DueReminder> fullBatch = reminders.subList(0, 2);
+        List<DueReminder> lastBatch = reminders.subList(2, 3);
+        BDDMockito.given(reminderService.claimDueReminders(anyString(), any(Duration.class), any(Duration.class), eq(2)))
+                .willReturn(fullBatch, lastBatch);
+
+        // when
+        scheduleNotifier.doNotify();
+
+        // then
+        Mockito.verify(dispatchService).dispatch(fullBatch);
+        Mockito.verify(dispatchService).dispatch(lastBatch);
+        Mockito.verify(reminderService).markSent(eq(List.of(1L, 2L)), anyString());
+        Mockito.verify(reminderService).markSent(eq(List.of(3L)), anyString());
+        Mockito.verify(reminderService, Mockito.times(2))
+                .claimDueReminders(anyString(), any(Duration.class), any(Duration.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test nothing is dispatched when no batch was claimed")
+    void givenNoDueReminders_whenDoNotifyCalled_thenNothingDispatched() {
+        // given
+        BDDMockito.given(reminderService.claimDueReminders(anyString(), any(Duration.class), any(Duration.class), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        scheduleNotifier.doNotify();
+
+        // then
+        Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+        Mockito.verify(reminderService, Mockito.never()).markSent(anyList(), anyString());
+    }
+}
@@ -0,0 +1,98 @@
+package ru.admiralpashtet.reminder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.admiralpashtet.reminder.dto.projection.ReminderExportRow;
+import ru.admiralpashtet.reminder.entity.ReminderStatus;
+import ru.admiralpashtet.reminder.export.ExportFormat;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.service.impl.ExportServiceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+    @Mock
+    private ReminderRepository reminderRepository;
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exportService = new ExportServiceImpl(reminderRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Test ndjson export functionality")
+    void givenReminders_whenExportNdjsonCalled_thenWriteOneJsonObjectPerLineAndCloseStream() throws Exception {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        BDDMockito.given(reminderRepository.streamAllByUserId(1L))
+                .willReturn(Stream.of(
+                                new ReminderExportRow(1L, "first", "description", LocalDateTime.of(2025, 3, 16, 12, 0),
+                                        ReminderStatus.PENDING),
+                                new ReminderExportRow(2L, "second", null, LocalDateTime.of(2025, 3, 17, 9, 30),
+                                        ReminderStatus.SENT))
+                        .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(1L, ExportFormat.NDJSON, outputStream);
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactly(
+                        "{\"id\":1,\"title\":\"first\",\"description\":\"description\","
+                                + "\"remind\":\"2025-03-16T12:00:00\",\"status\":\"PENDING\"}",
+                        "{\"id\":2,\"title\":\"second\",\"description\":null,"
+                                + "\"remind\":\"2025-03-17T09:30:00\",\"status\":\"SENT\"}");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test csv export functionality")
+    void givenRemindersWithSpecialCharacters_whenExportCsvCalled_thenWriteHeaderAndEscapedRows() throws Exception {
+        // given
+        BDDMockito.given(reminderRepository.streamAllByUserId(1L))
+                .willReturn(Stream.of(
+                        new ReminderExportRow(1L, "Sanya, birthday", "buy \"cake\"\nand candles",
+                                LocalDateTime.of(2025, 3, 16, 12, 0), ReminderStatus.PENDING)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(1L, ExportFormat.CSV, outputStream);
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,description,remind,status\r\n"
+                        + "1,\"Sanya, birthday\",\"buy \"\"cake\"\"\nand candles\",2025-03-16T12:00:00,PENDING\r\n");
+    }
+
+    @Test
+    @DisplayName("Test csv export without reminders functionality")
+    void givenNoReminders_whenExportCsvCalled_thenWriteOnlyHeader() throws Exception {
+        // given
+        BDDMockito.given(reminderRepository.streamAllByUserId(1L))
+                .willReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(1L, ExportFormat.CSV, outputStream);
+
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("id,title,description,remind,status\r\n");
+    }
+}
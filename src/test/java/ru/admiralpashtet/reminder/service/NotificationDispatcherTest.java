@@ -0,0 +1,135 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.exception.DispatchInterruptedException;
+import ru.admiralpashtet.reminder.service.impl.EmailNotificationSenderService;
+import ru.admiralpashtet.reminder.service.impl.NotificationDispatcher;
+import ru.admiralpashtet.reminder.service.impl.TelegramNotificationSenderService;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+    @Mock
+    private EmailNotificationSenderService emailNotificationSenderService;
+    @Mock
+    private TelegramNotificationSenderService telegramNotificationSenderService;
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationDispatcher = new NotificationDispatcher(
+                List.of(emailNotificationSenderService, telegramNotificationSenderService), 10, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test dispatch to all channels functionality")
+    void givenReminder_whenDispatchCalled_thenSendNotificationToAllChannels() {
+        // given
+        DueReminder reminder = DataUtils.getDueReminderPersisted();
+        // when
+        notificationDispatcher.dispatch(List.of(reminder));
+        // then
+        Mockito.verify(emailNotificationSenderService, Mockito.times(1)).sendNotification(reminder);
+        Mockito.verify(telegramNotificationSenderService, Mockito.times(1)).sendNotification(reminder);
+    }
+
+    @Test
+    @DisplayName("Test failed send does not stop the rest of the batch")
+    void givenFailingChannel_whenDispatchCalled_thenOtherSendsStillHappen() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted();
+        BDDMockito.willThrow(new RuntimeException("Telegram is unavailable"))
+                .given(telegramNotificationSenderService).sendNotification(reminders.getFirst());
+        // when
+        notificationDispatcher.dispatch(reminders);
+        // then
+        reminders.forEach(reminder -> {
+            Mockito.verify(emailNotificationSenderService).sendNotification(reminder);
+            Mockito.verify(telegramNotificationSenderService).sendNotification(reminder);
+        });
+    }
+
+    @Test
+    @DisplayName("Test hanging send is abandoned after timeout")
+    void givenHangingChannel_whenDispatchCalled_thenBatchFinishesAfterTimeout() {
+        // given
+        DueReminder reminder = DataUtils.getDueReminderPersisted();
+        BDDMockito.willAnswer(invocation -> {
+            Thread.sleep(3_000);
+            return null;
+        }).given(emailNotificationSenderService).sendNotification(reminder);
+        long start = System.currentTimeMillis();
+        // when
+        notificationDispatcher.dispatch(List.of(reminder));
+        // then
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_500);
+        Mockito.verify(telegramNotificationSenderService).sendNotification(reminder);
+    }
+
+    @Test
+    @DisplayName("Test timed out send keeps its slot until it actually finishes")
+    void givenSendHangingPastTimeout_whenDispatchCalled_thenInFlightSendsStayWithinCap() {
+        // given
+        notificationDispatcher.shutdown();
+        notificationDispatcher = new NotificationDispatcher(
+                List.of(emailNotificationSenderService, telegramNotificationSenderService), 1, 1);
+        DueReminder reminder = DataUtils.getDueReminderPersisted();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Answer<Void> hanging = invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1_500);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return null;
+        };
+        BDDMockito.willAnswer(hanging).given(emailNotificationSenderService).sendNotification(reminder);
+        BDDMockito.willAnswer(hanging).given(telegramNotificationSenderService).sendNotification(reminder);
+        // when
+        notificationDispatcher.dispatch(List.of(reminder));
+        // then
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        Mockito.verify(telegramNotificationSenderService).sendNotification(reminder);
+    }
+
+    @Test
+    @DisplayName("Test interrupted dispatch fails instead of returning normally")
+    void givenInterruptedThread_whenDispatchCalled_thenThrowException() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted();
+        Thread.currentThread().interrupt();
+        try {
+            // when
+            // then
+            assertThatThrownBy(() -> notificationDispatcher.dispatch(reminders))
+                    .isInstanceOf(DispatchInterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            Mockito.verifyNoInteractions(emailNotificationSenderService, telegramNotificationSenderService);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.NotificationChannel;
+import ru.admiralpashtet.reminder.entity.NotificationOutbox;
+import ru.admiralpashtet.reminder.entity.OutboxStatus;
+import ru.admiralpashtet.reminder.service.impl.OutboxWorkers;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxWorkersTest {
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private ReminderService reminderService;
+    @Mock
+    private NotificationSenderService emailSender;
+    private OutboxWorkers outboxWorkers;
+
+    @BeforeEach
+    void setUp() {
+        BDDMockito.given(emailSender.getChannel()).willReturn(NotificationChannel.EMAIL);
+        outboxWorkers = new OutboxWorkers(outboxService, reminderService, List.of(emailSender), 50, 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxWorkers.stop();
+    }
+
+    @Test
+    @DisplayName("Test outbox records are sent and marked by result")
+    void givenClaimedRecords_whenWorkerDrains_thenDeliveredFailedAndDiscardedAreMarked() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted().subList(0, 2);
+        NotificationOutbox delivered = outboxRecord(10L, 1L);
+        NotificationOutbox failed = outboxRecord(11L, 2L);
+        NotificationOutbox deleted = outboxRecord(12L, 99L);
+        BDDMockito.given(outboxService.claim(eq(NotificationChannel.EMAIL), anyInt()))
+                .willReturn(List.of(delivered, failed, deleted), List.of());
+        BDDMockito.given(reminderService.findAllDueByIds(anyList())).willReturn(reminders);
+        BDDMockito.willThrow(new RuntimeException("SMTP is unavailable"))
+                .given(emailSender).sendNotification(reminders.get(1));
+
+        // when
+        outboxWorkers.start();
+
+        // then
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Mockito.verify(outboxService).markDelivered(List.of(10L));
+                    Mockito.verify(outboxService).markFailed(eq(11L), anyString());
+                    Mockito.verify(outboxService).markDiscarded(List.of(12L));
+                });
+    }
+
+    private static NotificationOutbox outboxRecord(Long id, Long reminderId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NotificationOutbox(id, reminderId, NotificationChannel.EMAIL, now, OutboxStatus.PENDING,
+                0, now, now, null, null);
+    }
+}
@@ -0,0 +1,208 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.admiralpashtet.reminder.service.impl.PartitionMaintenanceServiceImpl;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionMaintenanceServiceImplTest {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private TransactionStatus transactionStatus;
+    private PartitionMaintenanceServiceImpl maintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        maintenanceService = new PartitionMaintenanceServiceImpl(jdbcTemplate, transactionTemplate, 1, 12, true);
+        BDDMockito.given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0)
+                        .doInTransaction(transactionStatus));
+        BDDMockito.given(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .willReturn(true);
+    }
+
+    @Test
+    @DisplayName("Test missing partitions are created for current, future and default partition months")
+    void givenMissingPartitions_whenMaintainCalled_thenPartitionsCreatedAndAttached() {
+        // given
+        YearMonth current = YearMonth.now();
+        YearMonth old = current.minusMonths(3);
+        BDDMockito.given(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                .willReturn(List.of("reminders_default", "reminders_p" + current.format(SUFFIX)));
+        BDDMockito.given(jdbcTemplate.queryForList(contains("information_schema"), eq(String.class), any()))
+                .willReturn(List.of("id", "remind"));
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of(Timestamp.valueOf(old.atDay(1).atStartOfDay())));
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jdbcTemplate, Mockito.atLeastOnce()).execute(statements.capture());
+        assertThat(statements.getAllValues())
+                .filteredOn(sql -> sql.contains("ATTACH PARTITION"))
+                .containsExactly(
+                        attachStatement(old),
+                        attachStatement(current.plusMonths(1)));
+        Mockito.verify(jdbcTemplate, Mockito.times(2))
+                .update(contains("(id, remind) SELECT id, remind FROM moved"), any(Timestamp.class), any(Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("Test partitions older than retention are detached and dropped")
+    void givenExpiredPartition_whenMaintainCalled_thenPartitionDetachedAndDropped() {
+        // given
+        YearMonth current = YearMonth.now();
+        String expired = "reminders_p" + current.minusMonths(13).format(SUFFIX);
+        String kept = "reminders_p" + current.minusMonths(12).format(SUFFIX);
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willReturn(List.of(expired, kept,
+                        "reminders_p" + current.format(SUFFIX),
+                        "reminders_p" + current.plusMonths(1).format(SUFFIX)));
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of());
+        BDDMockito.given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class)))
+                .willReturn(0);
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        Mockito.verify(jdbcTemplate).execute("ALTER TABLE reminders DETACH PARTITION " + expired);
+        Mockito.verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute("DROP TABLE " + kept);
+        Mockito.verify(jdbcTemplate).update(contains("user_reminder_counters"));
+    }
+
+    @Test
+    @DisplayName("Test expired partition with undelivered reminders is kept")
+    void givenExpiredPartitionWithPendingReminders_whenMaintainCalled_thenDetachRolledBack() {
+        // given
+        YearMonth current = YearMonth.now();
+        String expired = "reminders_p" + current.minusMonths(13).format(SUFFIX);
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willReturn(List.of(expired,
+                        "reminders_p" + current.format(SUFFIX),
+                        "reminders_p" + current.plusMonths(1).format(SUFFIX)));
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of());
+        BDDMockito.given(jdbcTemplate.queryForObject(contains("PENDING"), eq(Integer.class)))
+                .willReturn(2);
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        Mockito.verify(transactionStatus).setRollbackOnly();
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute("DROP TABLE " + expired);
+        Mockito.verify(jdbcTemplate, Mockito.never()).update(contains("user_reminder_counters"));
+    }
+
+    @Test
+    @DisplayName("Test months older than retention stay in the default partition")
+    void givenExpiredMonthInDefaultPartition_whenMaintainCalled_thenPartitionNotCreated() {
+        // given
+        YearMonth current = YearMonth.now();
+        YearMonth expired = current.minusMonths(13);
+        BDDMockito.given(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                .willReturn(List.of("reminders_p" + current.format(SUFFIX),
+                        "reminders_p" + current.plusMonths(1).format(SUFFIX)));
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of(Timestamp.valueOf(expired.atDay(1).atStartOfDay())));
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(contains("reminders_p" + expired.format(SUFFIX)));
+    }
+
+    @Test
+    @DisplayName("Test partition is not created when another node holds the maintenance lock")
+    void givenLockHeldByAnotherNode_whenMaintainCalled_thenNothingCreated() {
+        // given
+        BDDMockito.given(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .willReturn(false);
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willReturn(List.of());
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of());
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Test partition created by another node meanwhile is not created again")
+    void givenPartitionCreatedAfterCheck_whenMaintainCalled_thenCreateSkipped() {
+        // given
+        YearMonth current = YearMonth.now();
+        List<String> all = List.of("reminders_p" + current.format(SUFFIX),
+                "reminders_p" + current.plusMonths(1).format(SUFFIX));
+        BDDMockito.given(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                .willReturn(all.subList(0, 1), all);
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(Timestamp.class)))
+                .willReturn(List.of());
+
+        // when
+        maintenanceService.maintain();
+
+        // then
+        Mockito.verify(jdbcTemplate, Mockito.never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("Test maintenance failure does not propagate")
+    void givenDatabaseFailure_whenMaintainCalled_thenExceptionLogged() {
+        // given
+        BDDMockito.given(jdbcTemplate.queryForList(anyString(), eq(String.class), any()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        // then
+        assertThatCode(() -> maintenanceService.maintain()).doesNotThrowAnyException();
+    }
+
+    private static String attachStatement(YearMonth month) {
+        DateTimeFormatter bound = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return "ALTER TABLE reminders ATTACH PARTITION reminders_p" + month.format(SUFFIX)
+                + " FOR VALUES FROM ('" + month.atDay(1).atStartOfDay().format(bound)
+                + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay().format(bound) + "')";
+    }
+}
@@ -0,0 +1,109 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.service.impl.PreciseScheduleNotifier;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class PreciseScheduleNotifierTest {
+    @Mock
+    private ReminderService reminderService;
+    @Mock
+    private DispatchService dispatchService;
+    private PreciseScheduleNotifier scheduleNotifier;
+
+    @BeforeEach
+    void setUp() {
+        scheduleNotifier = new PreciseScheduleNotifier(reminderService, dispatchService, 60);
+        scheduleNotifier.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduleNotifier.stop();
+    }
+
+    @Test
+    @DisplayName("Test reminders fire at their exact second")
+    void givenRemindersWithinMinute_whenDoNotifyCalled_thenEachDispatchedAtItsDeadline() {
+        // given
+        DueReminder now = dueAt(1L, LocalDateTime.now());
+        DueReminder later = dueAt(2L, LocalDateTime.now().plusSeconds(2));
+        BDDMockito.given(reminderService.findAllByLocalDateTimeNow()).willReturn(List.of(later, now));
+
+        // when
+        scheduleNotifier.doNotify();
+
+        // then
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(dispatchService).dispatch(List.of(now)));
+        Mockito.verify(dispatchService, Mockito.never()).dispatch(List.of(later));
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(dispatchService).dispatch(List.of(later)));
+        Mockito.verify(dispatchService, Mockito.times(2)).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("Test reminder already queued is not queued twice when the minute is re-read")
+    void givenReminderQueued_whenMinuteReloaded_thenDispatchedOnce() {
+        // given
+        DueReminder later = dueAt(1L, LocalDateTime.now().plusSeconds(1));
+        BDDMockito.given(reminderService.findAllByLocalDateTimeNow()).willReturn(List.of(later));
+
+        // when
+        scheduleNotifier.reloadCurrentMinute();
+        scheduleNotifier.doNotify();
+
+        // then
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(reminderService).markSent(List.of(1L)));
+        Mockito.verify(dispatchService).dispatch(List.of(later));
+    }
+
+    @Test
+    @DisplayName("Test reminders of a failed dispatch are retried")
+    void givenFailedDispatch_whenRetryDelayPassed_thenDispatchedAgainAndMarkedSent() {
+        // given
+        DueReminder now = dueAt(1L, LocalDateTime.now());
+        BDDMockito.given(reminderService.findAllByLocalDateTimeNow()).willReturn(List.of(now));
+        BDDMockito.willThrow(new IllegalStateException("Dispatch was interrupted"))
+                .willDoNothing()
+                .given(dispatchService).dispatch(List.of(now));
+
+        // when
+        scheduleNotifier.doNotify();
+
+        // then
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(reminderService).markSent(List.of(1L)));
+        Mockito.verify(dispatchService, Mockito.times(2)).dispatch(List.of(now));
+    }
+
+    private static DueReminder dueAt(Long id, LocalDateTime remind) {
+        Reminder reminder = DataUtils.getReminderPersisted();
+        reminder.setId(id);
+        reminder.setRemind(remind);
+        return DueReminder.from(reminder);
+    }
+}
@@ -1,5 +1,7 @@
 package ru.admiralpashtet.reminder.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,21 +9,44 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import ru.admiralpashtet.reminder.cache.ReminderSearchCache;
+import ru.admiralpashtet.reminder.cache.ReminderSuggestIndex;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.dto.request.ReminderFilterRequest;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.ScrollRequest;
 import ru.admiralpashtet.reminder.dto.request.SearchRequest;
+import ru.admiralpashtet.reminder.dto.response.CalendarDayResponse;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
+import ru.admiralpashtet.reminder.dto.response.ScrollResponse;
 import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.entity.UserReminderCounter;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.exception.AccessDeniedException;
 import ru.admiralpashtet.reminder.exception.ReminderNotFoundException;
+import ru.admiralpashtet.reminder.exception.UserNotFoundException;
 import ru.admiralpashtet.reminder.mapper.ReminderMapper;
+import ru.admiralpashtet.reminder.pagination.ReminderCursor;
 import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.repository.UserReminderCounterRepository;
+import ru.admiralpashtet.reminder.repository.UserRepository;
+import ru.admiralpashtet.reminder.search.CountMode;
+import ru.admiralpashtet.reminder.search.ReminderFilter;
 import ru.admiralpashtet.reminder.service.impl.ReminderServiceImpl;
 import ru.admiralpashtet.reminder.util.DataUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -33,9 +58,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +76,17 @@ class ReminderServiceImplTest {
     @Mock
     private ReminderRepository reminderRepository;
     @Mock
+    private UserReminderCounterRepository counterRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Spy
+    private ReminderSearchCache searchCache = new ReminderSearchCache(new SimpleMeterRegistry(), 100, 60);
+    @Mock
+    private ReminderSuggestIndex suggestIndex;
+    @Mock
     private ReminderMapper reminderMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ReminderServiceImpl reminderService;
 
@@ -59,7 +101,7 @@ class ReminderServiceImplTest {
 
         BDDMockito.given(reminderMapper.toEntity(any(ReminderRequest.class), anyLong()))
                 .willReturn(reminderTransient);
-        BDDMockito.given(reminderRepository.save(any(Reminder.class)))
+        BDDMockito.given(reminderRepository.saveAndFlush(any(Reminder.class)))
                 .willReturn(reminderPersisted);
         BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .willReturn(reminderResponse);
@@ -70,6 +112,64 @@ class ReminderServiceImplTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(reminderPersisted.getId());
+        verify(counterRepository).incrementCreated(reminderPersisted.getUser().getId(), 1);
+        verify(userRepository).incrementDataVersion(reminderPersisted.getUser().getId());
+    }
+
+    @Test
+    @DisplayName("Test reminder creation for deleted user functionality")
+    void givenDeletedUser_whenCreateCalled_thenThrowsUserNotFound() {
+        // given
+        BDDMockito.given(reminderMapper.toEntity(any(ReminderRequest.class), anyLong()))
+                .willReturn(DataUtils.getReminderTransient());
+        BDDMockito.given(reminderRepository.saveAndFlush(any(Reminder.class)))
+                .willThrow(constraintViolation("reminders_user_id_fkey"));
+
+        // when then
+        assertThrows(UserNotFoundException.class, () -> reminderService.create(DataUtils.getReminderRequest(), 1L));
+        verifyNoInteractions(counterRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test reminder creation violating another constraint functionality")
+    void givenOtherConstraintViolated_whenCreateCalled_thenViolationRethrown() {
+        // given
+        BDDMockito.given(reminderMapper.toEntity(any(ReminderRequest.class), anyLong()))
+                .willReturn(DataUtils.getReminderTransient());
+        BDDMockito.given(reminderRepository.saveAndFlush(any(Reminder.class)))
+                .willThrow(constraintViolation("reminders_pkey"));
+
+        // when then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> reminderService.create(DataUtils.getReminderRequest(), 1L));
+        verifyNoInteractions(counterRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test batch reminder creation functionality")
+    void givenSeveralReminderRequests_whenCreateAllCalled_thenSavedTogetherAndCountersUpdatedOnce() {
+        // given
+        List<ReminderRequest> reminderRequests = List.of(DataUtils.getReminderRequest(), DataUtils.getReminderRequest());
+        Reminder reminderPersisted = DataUtils.getReminderPersisted();
+        Long userId = reminderPersisted.getUser().getId();
+
+        BDDMockito.given(reminderMapper.toEntity(any(ReminderRequest.class), anyLong()))
+                .willReturn(DataUtils.getReminderTransient());
+        BDDMockito.given(reminderRepository.saveAllAndFlush(anyList()))
+                .willReturn(List.of(reminderPersisted, reminderPersisted));
+        BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class)))
+                .willReturn(DataUtils.getReminderResponse());
+
+        // when
+        List<ReminderResponse> result = reminderService.createAll(reminderRequests, userId);
+
+        // then
+        assertThat(result).hasSize(2);
+        verify(reminderRepository, never()).save(any(Reminder.class));
+        verify(counterRepository).incrementCreated(userId, 2);
+        verify(userRepository, times(1)).incrementDataVersion(userId);
+        verify(eventPublisher, times(1)).publishEvent(any(ReminderBulkChangedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(ReminderChangedEvent.class));
     }
 
     @Test
@@ -77,29 +177,41 @@ class ReminderServiceImplTest {
     void givenValidReminderRequestAndExistsUser_whenUpdateCalled_thenReturnReminderResponse() {
         // given
         Reminder reminderPersisted = DataUtils.getReminderPersisted();
-        ReminderRequest reminderRequest =
-                new ReminderRequest("Updated title", "description", LocalDateTime.now());
+        Long userId = reminderPersisted.getUser().getId();
+        ReminderRequest reminderRequest = new ReminderRequest("Updated title", null, null);
+        reminderPersisted.setTitle(reminderRequest.title());
 
-        BDDMockito.given(reminderRepository.findById(anyLong()))
+        BDDMockito.given(reminderRepository.updateOwned(eq(1L), eq(userId), eq("Updated title"), isNull(), isNull(),
+                        any(LocalDateTime.class)))
                 .willReturn(Optional.of(reminderPersisted));
-        BDDMockito.doAnswer(invocationOnMock -> {
-                            ReminderRequest request = invocationOnMock.getArgument(0);
-                            Reminder entity = invocationOnMock.getArgument(1);
-                            entity.setTitle(request.title());
-                            return null;
-                        }
-                )
-                .when(reminderMapper).updateEntityFromDto(any(ReminderRequest.class), any(Reminder.class));
+        BDDMockito.given(reminderMapper.toResponseDTO(reminderPersisted))
+                .willReturn(DataUtils.getReminderResponse());
 
         // when
-        reminderService.update(reminderRequest, 1L, reminderPersisted.getUser().getId());
+        ReminderResponse result = reminderService.update(reminderRequest, 1L, userId);
 
         // then
-        assertThat(reminderPersisted.getTitle()).isEqualTo(reminderRequest.title());
-        BDDMockito
-                .verify(reminderMapper).updateEntityFromDto(any(ReminderRequest.class), any(Reminder.class));
+        assertThat(result).isNotNull();
+        verify(reminderRepository, never()).findById(anyLong());
+        verify(reminderRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(any(ReminderChangedEvent.class));
     }
 
+    @Test
+    @DisplayName("Test update reminder of another user functionality")
+    void givenForeignReminder_whenUpdateCalled_thenThrowsAccessDenied() {
+        // given
+        ReminderRequest reminderRequest = DataUtils.getReminderRequest();
+
+        BDDMockito.given(reminderRepository.updateOwned(anyLong(), anyLong(), any(), any(), any(), any()))
+                .willReturn(Optional.empty());
+        BDDMockito.given(reminderRepository.existsById(1L))
+                .willReturn(true);
+
+        // when then
+        assertThrows(AccessDeniedException.class, () -> reminderService.update(reminderRequest, 1L, 2L));
+        verifyNoInteractions(eventPublisher);
+    }
 
     @Test
     @DisplayName("Test update not exists reminder functionality")
@@ -107,8 +219,10 @@ class ReminderServiceImplTest {
         // given
         ReminderRequest reminderRequest = DataUtils.getReminderRequest();
 
-        BDDMockito.given(reminderRepository.findById(anyLong()))
-                .willThrow(ReminderNotFoundException.class);
+        BDDMockito.given(reminderRepository.updateOwned(anyLong(), anyLong(), any(), any(), any(), any()))
+                .willReturn(Optional.empty());
+        BDDMockito.given(reminderRepository.existsById(1L))
+                .willReturn(false);
 
         // when then
         assertThrows(ReminderNotFoundException.class, () -> reminderService.update(reminderRequest, 1L, 1L));
@@ -119,12 +233,40 @@ class ReminderServiceImplTest {
     void givenId_whenDeleteByIdCalled_thenReminderSuccessDeleted() {
         // given
         long id = 5;
+        BDDMockito.given(reminderRepository.deleteOwned(eq(id), eq(1L), any(LocalDateTime.class)))
+                .willReturn(1);
 
         // when
         reminderService.deleteById(id, 1L);
 
         // then
-        BDDMockito.verify(reminderRepository, times(1)).deleteById(id);
+        verify(reminderRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(any(ReminderChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test delete reminder of another user functionality")
+    void givenForeignReminder_whenDeleteByIdCalled_thenThrowsAccessDenied() {
+        // given
+        BDDMockito.given(reminderRepository.deleteOwned(eq(5L), eq(2L), any(LocalDateTime.class)))
+                .willReturn(0);
+        BDDMockito.given(reminderRepository.existsById(5L))
+                .willReturn(true);
+
+        // when then
+        assertThrows(AccessDeniedException.class, () -> reminderService.deleteById(5L, 2L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test delete not exists reminder functionality")
+    void givenNotExistsReminder_whenDeleteByIdCalled_thenThrowsException() {
+        // given
+        BDDMockito.given(reminderRepository.deleteOwned(eq(5L), eq(1L), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // when then
+        assertThrows(ReminderNotFoundException.class, () -> reminderService.deleteById(5L, 1L));
     }
 
 
@@ -135,8 +277,10 @@ class ReminderServiceImplTest {
         Page<Reminder> entityPage = DataUtils.getPageOfRemindersPersisted();
         Page<ReminderResponse> responsePage = DataUtils.getPageOfReminderResponsesForOneUser();
 
-        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
-                .thenReturn(entityPage);
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(entityPage.getContent());
+        BDDMockito.when(counterRepository.findById(1L))
+                .thenReturn(Optional.of(new UserReminderCounter(1L, entityPage.getTotalElements(), 2)));
 
         BDDMockito.when(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .thenAnswer(invocation -> {
@@ -149,16 +293,86 @@ class ReminderServiceImplTest {
 
         // when
         Page<ReminderResponse> resultPage = reminderService.findAll(1L,
-                new SearchRequest(null, null, null, "title", true, 0, 10));
+                DataUtils.getSearchRequest(null, null, null, "title", true, 0, 10));
 
         // then
         assertThat(resultPage).isNotNull();
         assertThat(entityPage.getTotalElements()).isEqualTo(resultPage.getTotalElements());
 
         BDDMockito.verify(reminderRepository, times(1))
+                .findAllByUserId(eq(1L), any(PageRequest.class));
+        BDDMockito.verify(reminderRepository, never())
                 .findAll(any(Specification.class), any(PageRequest.class));
     }
 
+    @Test
+    @DisplayName("Test repeated find all is served from cache functionality")
+    void givenSameSearchAndVersion_whenFindAllCalledTwice_thenRepositoryQueriedOnce() {
+        // given
+        SearchRequest searchRequest = DataUtils.getSearchRequest("meeting", null, null, "remind", true, 0, 10);
+        BDDMockito.given(userRepository.findDataVersionById(1L))
+                .willReturn(Optional.of(4L), Optional.of(4L), Optional.of(5L));
+        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(DataUtils.getPageOfRemindersPersisted());
+
+        // when
+        reminderService.findAll(1L, searchRequest);
+        reminderService.findAll(1L, searchRequest);
+        reminderService.findAll(1L, searchRequest);
+
+        // then
+        verify(reminderRepository, times(2)).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test find all without count functionality")
+    void givenCountModeNone_whenFindAllCalledWithSearchQuery_thenCountQueryIsSkipped() {
+        // given
+        List<Reminder> reminders = DataUtils.getPageOfRemindersPersisted().getContent();
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        BDDMockito.when(reminderRepository.findAllWithoutCount(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(reminders.subList(0, 2), pageRequest, 3));
+
+        // when
+        Page<ReminderResponse> result = reminderService.findAll(1L,
+                new SearchRequest("meeting", null, null, "remind", true, 0, 2, null, "none", null, null));
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        verify(reminderRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+        verify(reminderRepository, never()).estimateKeywordsCount(anyLong(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test find all with estimated count functionality")
+    void givenCountModeEstimated_whenFindAllCalledWithSearchQuery_thenPlannerEstimateUsed() {
+        // given
+        List<Reminder> reminders = DataUtils.getPageOfRemindersPersisted().getContent();
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        BDDMockito.when(reminderRepository.findAllWithoutCount(any(Specification.class), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(reminders.subList(0, 2), pageRequest, 3));
+        BDDMockito.when(reminderRepository.estimateKeywordsCount(1L, List.of("team", "meeting"), null, null))
+                .thenReturn(120L);
+
+        // when
+        Page<ReminderResponse> result = reminderService.findAll(1L,
+                new SearchRequest("team+meeting", null, null, "remind", true, 0, 2, null, "estimated", null, null));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(120L);
+        verify(reminderRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test find all with invalid count mode functionality")
+    void givenInvalidCountMode_whenFindAllCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.findAll(1L,
+                        new SearchRequest("meeting", null, null, "remind", true, 0, 10, null, "approximate",
+                                null, null)));
+    }
+
     @Test
     @DisplayName("Test find all reminders by search query functionality")
     void givenFiveReminders_whenFindAllCalledWithSearchQuery_thenReturnPageWithFoundedReminders() {
@@ -187,7 +401,7 @@ class ReminderServiceImplTest {
 
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest("meeting", null, null, "remind", true, 0, 10));
+                DataUtils.getSearchRequest("meeting", null, null, "remind", true, 0, 10));
 
         // then
         assertThat(result).isNotNull();
@@ -207,13 +421,234 @@ class ReminderServiceImplTest {
 
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest("nonexistent", null, null, "remind", true, 0, 10));
+                DataUtils.getSearchRequest("nonexistent", null, null, "remind", true, 0, 10));
 
         // then
         assertThat(result).isNotNull();
         assertTrue(result.getContent().isEmpty());
     }
 
+    @Test
+    @DisplayName("Test full text search sorted by relevance functionality")
+    void givenFullTextMode_whenFindAllCalled_thenFullTextSearchUsedWithRelevanceSort() {
+        // given
+        Page<Reminder> entityPage = DataUtils.getPageOfRemindersPersisted();
+        BDDMockito.given(reminderRepository.searchFullText(eq(1L), eq("meeting notes"), isNull(), isNull(),
+                        any(PageRequest.class), eq(CountMode.EXACT)))
+                .willReturn(entityPage);
+
+        // when
+        Page<ReminderResponse> result = reminderService.findAll(1L,
+                new SearchRequest("meeting notes", null, null, "relevance", false, 0, 10, "fulltext",
+                        null, null, null));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(entityPage.getTotalElements());
+        ArgumentCaptor<PageRequest> captor = ArgumentCaptor.forClass(PageRequest.class);
+        verify(reminderRepository).searchFullText(eq(1L), eq("meeting notes"), isNull(), isNull(), captor.capture(),
+                eq(CountMode.EXACT));
+        assertThat(captor.getValue().getSort().getOrderFor("relevance")).isNotNull();
+        assertThat(captor.getValue().getSort().getOrderFor("relevance").isDescending()).isTrue();
+        verify(reminderRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test full text search with date functionality")
+    void givenFullTextModeAndDate_whenFindAllCalled_thenWholeDayRangeUsed() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 16);
+        BDDMockito.given(reminderRepository.searchFullText(anyLong(), anyString(), any(LocalDateTime.class),
+                        any(LocalDateTime.class), any(PageRequest.class), any(CountMode.class)))
+                .willReturn(Page.empty());
+
+        // when
+        reminderService.findAll(1L, new SearchRequest("meeting", date, null, "remind", true, 0, 10, "fulltext",
+                null, null, null));
+
+        // then
+        verify(reminderRepository).searchFullText(eq(1L), eq("meeting"), eq(date.atStartOfDay()),
+                eq(date.atTime(23, 59, 59)), any(PageRequest.class), eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("Test full text search with date range functionality")
+    void givenFullTextModeAndRange_whenFindAllCalled_thenRangeBoundsUsed() {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        BDDMockito.given(reminderRepository.searchFullText(anyLong(), anyString(), any(LocalDateTime.class),
+                        any(LocalDateTime.class), any(PageRequest.class), any(CountMode.class)))
+                .willReturn(Page.empty());
+
+        // when
+        reminderService.findAll(1L, new SearchRequest("meeting", null, null, "remind", true, 0, 10,
+                "fulltext", null, from, to));
+
+        // then
+        verify(reminderRepository).searchFullText(eq(1L), eq("meeting"), eq(from.atStartOfDay()),
+                eq(LocalDate.of(2025, 4, 1).atStartOfDay().minusNanos(1_000)), any(PageRequest.class),
+                eq(CountMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("Test find all with date range only functionality")
+    void givenRangeWithoutQuery_whenFindAllCalled_thenSpecificationUsedInsteadOfCounter() {
+        // given
+        Page<Reminder> entityPage = DataUtils.getPageOfRemindersPersisted();
+        BDDMockito.given(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
+                .willReturn(entityPage);
+
+        // when
+        Page<ReminderResponse> result = reminderService.findAll(1L, new SearchRequest(null, null, null,
+                "remind", true, 0, 10, null, null, LocalDate.of(2025, 3, 1), null));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(entityPage.getTotalElements());
+        verify(reminderRepository, never()).findAllByUserId(anyLong(), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test find all with reversed date range functionality")
+    void givenFromAfterTo_whenFindAllCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.findAll(1L, new SearchRequest(null, null, null, "remind", true, 0, 10,
+                        null, null, LocalDate.of(2025, 3, 31), LocalDate.of(2025, 3, 1))));
+    }
+
+    @Test
+    @DisplayName("Test count reminders by day functionality")
+    void givenRange_whenCountByDayCalled_thenWholeDaysQueried() {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 31);
+        List<CalendarDayResponse> days = List.of(new CalendarDayResponse(LocalDate.of(2025, 3, 16), 2L));
+        BDDMockito.given(reminderRepository.countByDay(1L, from.atStartOfDay(), LocalDate.of(2025, 4, 1).atStartOfDay()))
+                .willReturn(days);
+
+        // when
+        List<CalendarDayResponse> result = reminderService.countByDay(1L, from, to);
+
+        // then
+        assertThat(result).isEqualTo(days);
+    }
+
+    @Test
+    @DisplayName("Test count reminders by day with too long range functionality")
+    void givenRangeLongerThanYear_whenCountByDayCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.countByDay(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)));
+        verify(reminderRepository, never()).countByDay(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test suggest functionality")
+    void givenPrefix_whenSuggestCalled_thenSuggestionsTakenFromIndex() {
+        // given
+        BDDMockito.given(suggestIndex.suggest(1L, "mee", 5))
+                .willReturn(List.of("meeting"));
+
+        // when
+        List<String> result = reminderService.suggest(1L, "mee", 5);
+
+        // then
+        assertThat(result).containsExactly("meeting");
+        verifyNoInteractions(reminderRepository);
+    }
+
+    @Test
+    @DisplayName("Test suggest with too big limit functionality")
+    void givenTooBigLimit_whenSuggestCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class, () -> reminderService.suggest(1L, "mee", 100));
+        verifyNoInteractions(suggestIndex);
+    }
+
+    @Test
+    @DisplayName("Test fuzzy search sorted by relevance functionality")
+    void givenFuzzyMode_whenFindAllCalled_thenFuzzySearchUsedWithJoinedWords() {
+        // given
+        Page<Reminder> entityPage = DataUtils.getPageOfRemindersPersisted();
+        BDDMockito.given(reminderRepository.searchFuzzy(eq(1L), eq("meetnig notes"), isNull(), isNull(),
+                        any(PageRequest.class), eq(CountMode.EXACT)))
+                .willReturn(entityPage);
+
+        // when
+        Page<ReminderResponse> result = reminderService.findAll(1L,
+                new SearchRequest("meetnig+notes", null, null, "relevance", false, 0, 10, "fuzzy", null, null, null));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(entityPage.getTotalElements());
+        verify(reminderRepository, never()).searchFullText(anyLong(), anyString(), any(), any(), any(), any());
+        verify(reminderRepository, never()).findAll(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Test first scroll page functionality")
+    void givenNoCursor_whenScrollCalled_thenFirstPageWithNextCursorReturned() {
+        // given
+        List<Reminder> reminders = DataUtils.getPageOfRemindersPersisted().getContent().subList(0, 3);
+        BDDMockito.given(reminderRepository.findFirstScrollAsc(1L, 3)).willReturn(reminders);
+        BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class))).willReturn(DataUtils.getReminderResponse());
+
+        // when
+        ScrollResponse<ReminderResponse> result = reminderService.scroll(1L, new ScrollRequest(null, true, 2));
+
+        // then
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        ReminderCursor cursor = ReminderCursor.decode(result.nextCursor());
+        assertThat(cursor.id()).isEqualTo(reminders.get(1).getId());
+        assertThat(cursor.remind()).isEqualTo(reminders.get(1).getRemind());
+    }
+
+    @Test
+    @DisplayName("Test next scroll page functionality")
+    void givenCursor_whenScrollCalled_thenSeekFromCursorPosition() {
+        // given
+        LocalDateTime remind = LocalDateTime.of(2025, 3, 16, 14, 0);
+        String cursor = new ReminderCursor(remind, 2L).encode();
+        List<Reminder> reminders = DataUtils.getPageOfRemindersPersisted().getContent().subList(0, 1);
+        BDDMockito.given(reminderRepository.findNextScrollDesc(1L, remind, 2L, 3)).willReturn(reminders);
+        BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class))).willReturn(DataUtils.getReminderResponse());
+
+        // when
+        ScrollResponse<ReminderResponse> result = reminderService.scroll(1L, new ScrollRequest(cursor, false, 2));
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(reminderRepository, never()).findFirstScrollDesc(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test scroll with invalid cursor functionality")
+    void givenInvalidCursor_whenScrollCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.scroll(1L, new ScrollRequest("not-a-cursor", true, 10)));
+    }
+
+    @Test
+    @DisplayName("Test sort by relevance without full text mode functionality")
+    void givenRelevanceSortInKeywordsMode_whenFindAllCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.findAll(1L,
+                        DataUtils.getSearchRequest("meeting", null, null, "relevance", true, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Test find all with invalid search mode functionality")
+    void givenInvalidSearchMode_whenFindAllCalled_thenThrowsException() {
+        // when then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.findAll(1L,
+                        new SearchRequest("meeting", null, null, "remind", true, 0, 10, "semantic", null, null, null)));
+    }
+
     @Test
     @DisplayName("Test find all reminders with date functionality")
     void givenFiveReminders_whenFindAllCalledWithDate_thenReturnPageWithFoundedReminders() {
@@ -241,7 +676,7 @@ class ReminderServiceImplTest {
 
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, date, null, "remind", true, 0, 10));
+                DataUtils.getSearchRequest(null, date, null, "remind", true, 0, 10));
 
         // then
         assertThat(result).isNotNull();
@@ -276,7 +711,7 @@ class ReminderServiceImplTest {
 
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, null, time, "remind", true, 0, 10));
+                DataUtils.getSearchRequest(null, null, time, "remind", true, 0, 10));
 
         // then
         assertThat(result).isNotNull();
@@ -311,7 +746,7 @@ class ReminderServiceImplTest {
         // when
         Page<ReminderResponse> result = reminderService
                 .findAll(1L,
-                        new SearchRequest(null,
+                        DataUtils.getSearchRequest(null,
                                 dateTime.toLocalDate(),
                                 dateTime.toLocalTime(),
                                 "remind",
@@ -357,7 +792,7 @@ class ReminderServiceImplTest {
         // when
         Page<ReminderResponse> result = reminderService
                 .findAll(1L,
-                        new SearchRequest(searchQuery,
+                        DataUtils.getSearchRequest(searchQuery,
                                 dateTime.toLocalDate(),
                                 dateTime.toLocalTime(),
                                 "remind",
@@ -387,8 +822,8 @@ class ReminderServiceImplTest {
                 .sorted(Comparator.comparing(Reminder::getTitle)).toList();
         Page<Reminder> sortedPage = new PageImpl<>(sorted, PageRequest.of(0, allReminders.size()), allReminders.size());
 
-        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
-                .thenReturn(sortedPage);
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(sortedPage.getContent());
 
         BDDMockito.when(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .thenAnswer(invocation -> {
@@ -400,7 +835,7 @@ class ReminderServiceImplTest {
                 });
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
+                DataUtils.getSearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
 
         // then
         assertThat(result).isNotNull();
@@ -422,8 +857,8 @@ class ReminderServiceImplTest {
                 .sorted(Comparator.comparing(Reminder::getDescription)).toList();
         Page<Reminder> sortedPage = new PageImpl<>(sorted, PageRequest.of(0, allReminders.size()), allReminders.size());
 
-        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
-                .thenReturn(sortedPage);
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(sortedPage.getContent());
 
         BDDMockito.when(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .thenAnswer(invocation -> {
@@ -435,7 +870,7 @@ class ReminderServiceImplTest {
                 });
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
+                DataUtils.getSearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
 
         // then
         assertThat(result).isNotNull();
@@ -457,8 +892,8 @@ class ReminderServiceImplTest {
                 .sorted(Comparator.comparing(Reminder::getRemind)).toList();
         Page<Reminder> sortedPage = new PageImpl<>(sorted, PageRequest.of(0, allReminders.size()), allReminders.size());
 
-        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
-                .thenReturn(sortedPage);
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(sortedPage.getContent());
 
         BDDMockito.when(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .thenAnswer(invocation -> {
@@ -470,7 +905,7 @@ class ReminderServiceImplTest {
                 });
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
+                DataUtils.getSearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
 
         // then
         assertThat(result).isNotNull();
@@ -484,12 +919,18 @@ class ReminderServiceImplTest {
 
     @Test
     @DisplayName("Test find all reminders with null sort parameter")
-    void givenNullSortParam_whenFindAllCalledWithNullSortParam_thenThrowsException() {
-        // when  then
-        assertThrows(IllegalArgumentException.class,
-                () -> reminderService.findAll(1L,
-                        new SearchRequest(null, null, null, null, true, 0, 5)));
+    void givenNullSortParam_whenFindAllCalledWithNullSortParam_thenSortByRemindAscending() {
+        // given
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(List.of());
 
+        // when
+        reminderService.findAll(1L, DataUtils.getSearchRequest(null, null, null, null, true, 0, 5));
+
+        // then
+        ArgumentCaptor<PageRequest> pageRequest = ArgumentCaptor.forClass(PageRequest.class);
+        verify(reminderRepository).findAllByUserId(eq(1L), pageRequest.capture());
+        assertThat(pageRequest.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.ASC, "remind"));
     }
 
     @Test
@@ -500,7 +941,7 @@ class ReminderServiceImplTest {
         // when  then
         assertThrows(IllegalArgumentException.class,
                 () -> reminderService.findAll(1L,
-                        new SearchRequest(null, null, null, invalidParam, true, 0, 5)));
+                        DataUtils.getSearchRequest(null, null, null, invalidParam, true, 0, 5)));
     }
 
     @Test
@@ -514,8 +955,8 @@ class ReminderServiceImplTest {
                 .sorted(Comparator.comparing(Reminder::getRemind).reversed()).toList();
         Page<Reminder> sortedPage = new PageImpl<>(sorted, PageRequest.of(0, allReminders.size()), allReminders.size());
 
-        BDDMockito.when(reminderRepository.findAll(any(Specification.class), any(PageRequest.class)))
-                .thenReturn(sortedPage);
+        BDDMockito.when(reminderRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                .thenReturn(sortedPage.getContent());
 
         BDDMockito.when(reminderMapper.toResponseDTO(any(Reminder.class)))
                 .thenAnswer(invocation -> {
@@ -527,7 +968,7 @@ class ReminderServiceImplTest {
                 });
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
+                DataUtils.getSearchRequest(null, null, null, sortBy, ascending, 0, allReminders.size()));
 
         // then
         assertThat(result).isNotNull();
@@ -547,7 +988,7 @@ class ReminderServiceImplTest {
         // when  then
         assertThrows(IllegalArgumentException.class,
                 () -> reminderService.findAll(1L,
-                        new SearchRequest(
+                        DataUtils.getSearchRequest(
                                 null,
                                 null,
                                 null,
@@ -588,7 +1029,7 @@ class ReminderServiceImplTest {
                 });
         // when
         Page<ReminderResponse> result = reminderService.findAll(1L,
-                new SearchRequest(sortBy, null, null, sortBy, ascending, page, size));
+                DataUtils.getSearchRequest(sortBy, null, null, sortBy, ascending, page, size));
 
         // then
         assertThat(result).isNotNull();
@@ -610,6 +1051,162 @@ class ReminderServiceImplTest {
         // when  then
         assertThrows(IllegalArgumentException.class,
                 () -> reminderService.findAll(1L,
-                        new SearchRequest(null, null, null, "remind", true, 0, invalidSize)));
+                        DataUtils.getSearchRequest(null, null, null, "remind", true, 0, invalidSize)));
+    }
+
+    @Test
+    @DisplayName("Test find reminders of current minute functionality")
+    void givenDueReminders_whenFindAllByLocalDateTimeNowCalled_thenProjectionReturned() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted();
+        BDDMockito.given(reminderRepository.findDueBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(reminders);
+
+        // when
+        List<DueReminder> result = reminderService.findAllByLocalDateTimeNow();
+
+        // then
+        assertThat(result).isEqualTo(reminders);
+        verify(reminderRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Test find pending reminders in window functionality")
+    void givenPendingReminders_whenFindPendingInWindowCalled_thenLimitedChunkReturned() {
+        // given
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted().subList(0, 2);
+        LocalDateTime from = LocalDateTime.now().minusHours(1);
+        LocalDateTime to = LocalDateTime.now();
+        BDDMockito.given(reminderRepository.findPendingInWindow(from, to, Limit.of(2)))
+                .willReturn(reminders);
+
+        // when
+        List<DueReminder> result = reminderService.findPendingInWindow(from, to, 2);
+
+        // then
+        assertThat(result).isEqualTo(reminders);
+    }
+
+    @Test
+    @DisplayName("Test claim due reminders functionality")
+    void givenLockedIds_whenClaimDueRemindersCalled_thenLeaseAndReturnReminders() {
+        // given
+        List<Long> ids = List.of(1L, 2L);
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted().subList(0, 2);
+        BDDMockito.given(reminderRepository.lockDueIds(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willReturn(ids);
+        BDDMockito.given(reminderRepository.findDueByIds(ids))
+                .willReturn(reminders);
+
+        // when
+        List<DueReminder> result = reminderService.claimDueReminders("node", Duration.ofMinutes(1),
+                Duration.ofMinutes(10), 100);
+
+        // then
+        assertThat(result).isEqualTo(reminders);
+        verify(reminderRepository).lease(eq(ids), eq("node"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Test claim due reminders without due reminders functionality")
+    void givenNoLockedIds_whenClaimDueRemindersCalled_thenReturnEmptyListWithoutLease() {
+        // given
+        BDDMockito.given(reminderRepository.lockDueIds(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of());
+
+        // when
+        List<DueReminder> result = reminderService.claimDueReminders("node", Duration.ofMinutes(1),
+                Duration.ofMinutes(10), 100);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(reminderRepository, never()).lease(anyList(), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Test bulk reschedule functionality")
+    void givenDayFilter_whenRescheduleAllCalled_thenShiftOwnedRemindersWithOneEvent() {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(null, "sanya+birthday",
+                LocalDate.of(2025, 3, 16), LocalDate.of(2025, 3, 16));
+        BDDMockito.given(reminderRepository.rescheduleOwned(eq(1L), any(ReminderFilter.class),
+                        eq(Duration.ofHours(2)), any(LocalDateTime.class)))
+                .willReturn(List.of(1L, 2L, 3L));
+
+        // when
+        int affected = reminderService.rescheduleAll(1L, filterRequest, Duration.ofHours(2));
+
+        // then
+        assertThat(affected).isEqualTo(3);
+        ArgumentCaptor<ReminderFilter> filter = ArgumentCaptor.forClass(ReminderFilter.class);
+        verify(reminderRepository).rescheduleOwned(eq(1L), filter.capture(), eq(Duration.ofHours(2)),
+                any(LocalDateTime.class));
+        assertThat(filter.getValue().keywords()).containsExactly("sanya", "birthday");
+        assertThat(filter.getValue().from()).isEqualTo(LocalDateTime.of(2025, 3, 16, 0, 0));
+        assertThat(filter.getValue().toExclusive()).isEqualTo(LocalDateTime.of(2025, 3, 17, 0, 0));
+        verify(eventPublisher).publishEvent(any(ReminderBulkChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test bulk reschedule with empty filter functionality")
+    void givenEmptyFilter_whenRescheduleAllCalled_thenThrowException() {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(List.of(), " ", null, null);
+
+        // when
+        // then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.rescheduleAll(1L, filterRequest, Duration.ofHours(2)));
+        verifyNoInteractions(reminderRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test bulk reschedule with zero shift functionality")
+    void givenZeroShift_whenRescheduleAllCalled_thenThrowException() {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(List.of(1L), null, null, null);
+
+        // when
+        // then
+        assertThrows(IllegalArgumentException.class,
+                () -> reminderService.rescheduleAll(1L, filterRequest, Duration.ZERO));
+        verifyNoInteractions(reminderRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test bulk delete functionality")
+    void givenIdsFilter_whenDeleteAllCalled_thenDeleteOwnedRemindersWithOneEvent() {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(List.of(1L, 2L), null, null, null);
+        BDDMockito.given(reminderRepository.deleteOwned(eq(1L), any(ReminderFilter.class), any(LocalDateTime.class)))
+                .willReturn(List.of(1L));
+
+        // when
+        int affected = reminderService.deleteAll(1L, filterRequest);
+
+        // then
+        assertThat(affected).isEqualTo(1);
+        verify(eventPublisher).publishEvent(any(ReminderBulkChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Test bulk delete without matching reminders functionality")
+    void givenNothingMatched_whenDeleteAllCalled_thenReturnZeroWithoutEvent() {
+        // given
+        ReminderFilterRequest filterRequest = new ReminderFilterRequest(null, null, LocalDate.of(2025, 3, 1), null);
+        BDDMockito.given(reminderRepository.deleteOwned(eq(1L), any(ReminderFilter.class), any(LocalDateTime.class)))
+                .willReturn(List.of());
+
+        // when
+        int affected = reminderService.deleteAll(1L, filterRequest);
+
+        // then
+        assertThat(affected).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", null, constraintName));
     }
-}
\ No newline at end of file
+}
@@ -1,48 +1,120 @@
 package ru.admiralpashtet.reminder.service;
 
-import org.awaitility.Awaitility;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import ru.admiralpashtet.reminder.entity.Reminder;
-import ru.admiralpashtet.reminder.service.impl.EmailNotificationSenderService;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
 import ru.admiralpashtet.reminder.service.impl.ScheduleNotifier;
-import ru.admiralpashtet.reminder.service.impl.TelegramNotificationSenderService;
 import ru.admiralpashtet.reminder.util.DataUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleNotifierTest {
     @Mock
     private ReminderService reminderService;
     @Mock
-    private EmailNotificationSenderService emailNotificationSenderService;
+    private DispatchService dispatchService;
     @Mock
-    private TelegramNotificationSenderService telegramNotificationSenderService;
-    @InjectMocks
+    private DispatchWatermarkService watermarkService;
+    private MeterRegistry meterRegistry;
     private ScheduleNotifier scheduleNotifier;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduleNotifier = new ScheduleNotifier(reminderService, dispatchService, watermarkService, meterRegistry,
+                2, 24, 1000);
+    }
+
     @Test
     @DisplayName("Test scheduled notification functionality")
     void givenReminder_whenDoNotifyCalled_thenSendNotification() {
         // given
-        List<Reminder> reminders = List.of(DataUtils.getReminderPersisted());
-        BDDMockito.given(reminderService.findAllByLocalDateTimeNow()).willReturn(reminders);
+        List<DueReminder> reminders = DataUtils.getDueRemindersPersisted();
+        List<DueReminder> firstChunk = reminders.subList(0, 2);
+        List<DueReminder> lastChunk = reminders.subList(2, 3);
+        BDDMockito.given(watermarkService.find(anyString())).willReturn(Optional.empty());
+        BDDMockito.given(reminderService.findPendingInWindow(any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .willReturn(firstChunk, lastChunk);
+        LocalDateTime minuteEndBefore = minuteEnd();
+        // when
+        scheduleNotifier.doNotify();
+        // then
+        LocalDateTime minuteEndAfter = minuteEnd();
+        Mockito.verify(dispatchService, Mockito.times(1)).dispatch(firstChunk);
+        Mockito.verify(dispatchService, Mockito.times(1)).dispatch(lastChunk);
+        Mockito.verify(reminderService).markSent(List.of(1L, 2L));
+        Mockito.verify(reminderService).markSent(List.of(3L));
+        ArgumentCaptor<LocalDateTime> advanced = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(watermarkService, Mockito.atLeastOnce()).advance(anyString(), advanced.capture());
+        assertThat(advanced.getAllValues().getLast()).isIn(minuteEndBefore, minuteEndAfter);
+    }
+
+    @Test
+    @DisplayName("Test missed minutes are caught up from the persisted watermark")
+    void givenWatermarkBehind_whenDoNotifyCalled_thenMissedRemindersDispatchedAndWatermarkAdvanced() {
+        // given
+        LocalDateTime watermark = LocalDateTime.now().withSecond(0).withNano(0).minusMinutes(30);
+        List<DueReminder> missed = DataUtils.getDueRemindersPersisted().subList(0, 1);
+        BDDMockito.given(watermarkService.find(anyString())).willReturn(Optional.of(watermark));
+        BDDMockito.given(reminderService.countPendingInWindow(eq(watermark), any(LocalDateTime.class))).willReturn(1L);
+        BDDMockito.given(reminderService.findPendingInWindow(eq(watermark), any(LocalDateTime.class), eq(2)))
+                .willReturn(missed);
+        LocalDateTime minuteEndBefore = minuteEnd();
         // when
-        Awaitility.await()
-                .atMost(62, TimeUnit.SECONDS)
-                .untilAsserted(() -> scheduleNotifier.doNotify());
+        scheduleNotifier.doNotify();
         // then
-        Mockito.verify(emailNotificationSenderService, Mockito.times(1))
-                .sendNotification(reminders.getFirst());
-        Mockito.verify(telegramNotificationSenderService, Mockito.times(1))
-                .sendNotification(reminders.getFirst());
+        LocalDateTime minuteEndAfter = minuteEnd();
+        Mockito.verify(dispatchService).dispatch(missed);
+        assertThat(meterRegistry.get("reminder.catch-up.dispatched").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("reminder.catch-up.backlog").gauge().value()).isZero();
+        ArgumentCaptor<LocalDateTime> advanced = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(watermarkService, Mockito.times(2)).advance(anyString(), advanced.capture());
+        assertThat(advanced.getAllValues().getFirst()).isBefore(missed.getFirst().remind());
+        assertThat(advanced.getAllValues().getLast()).isIn(minuteEndBefore, minuteEndAfter);
+    }
+
+    @Test
+    @DisplayName("Test watermark older than max lag is clamped and older reminders are expired")
+    void givenVeryOldWatermark_whenDoNotifyCalled_thenScanStartsAtMaxLagAndOlderExpired() {
+        // given
+        LocalDateTime minuteStart = LocalDateTime.now().withSecond(0).withNano(0);
+        BDDMockito.given(watermarkService.find(anyString())).willReturn(Optional.of(minuteStart.minusDays(7)));
+        BDDMockito.given(reminderService.findPendingInWindow(any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of());
+        // when
+        scheduleNotifier.doNotify();
+        // then
+        LocalDateTime minuteStartAfter = LocalDateTime.now().withSecond(0).withNano(0);
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(reminderService).findPendingInWindow(from.capture(), any(LocalDateTime.class), eq(2));
+        assertThat(from.getValue()).isIn(minuteStart.minusHours(24), minuteStartAfter.minusHours(24));
+        Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+        ArgumentCaptor<LocalDateTime> expiredBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(reminderService).expirePendingBefore(expiredBefore.capture());
+        assertThat(expiredBefore.getValue()).isIn(minuteStart.minusHours(24), minuteStartAfter.minusHours(24));
+    }
+
+    /**
+     * Тест может пересечь границу минуты, поэтому ожидаемая граница окна берется до и после вызова.
+     */
+    private static LocalDateTime minuteEnd() {
+        return LocalDateTime.now().withSecond(59).withNano(0);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.admiralpashtet.reminder.dto.response.ChangesResponse;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.exception.SyncTokenExpiredException;
+import ru.admiralpashtet.reminder.mapper.ReminderMapper;
+import ru.admiralpashtet.reminder.pagination.SyncToken;
+import ru.admiralpashtet.reminder.repository.ReminderRepository;
+import ru.admiralpashtet.reminder.repository.ReminderTombstoneRepository;
+import ru.admiralpashtet.reminder.service.impl.SyncServiceImpl;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceImplTest {
+    @Mock
+    private ReminderRepository reminderRepository;
+    @Mock
+    private ReminderTombstoneRepository tombstoneRepository;
+    @Mock
+    private ReminderMapper reminderMapper;
+    private SyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncServiceImpl(reminderRepository, tombstoneRepository, reminderMapper, 5, 30);
+    }
+
+    @Test
+    @DisplayName("Test first sync returns all reminders functionality")
+    void givenNoToken_whenFindChangesCalled_thenAllRemindersAndTokenReturned() {
+        // given
+        List<Reminder> reminders = DataUtils.getPageOfRemindersPersisted().getContent();
+        BDDMockito.given(reminderRepository.findAllUpdatedUntil(eq(1L), any(LocalDateTime.class)))
+                .willReturn(reminders);
+        BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class))).willReturn(DataUtils.getReminderResponse());
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        ChangesResponse result = syncService.findChanges(1L, null);
+
+        // then
+        assertThat(result.changed()).hasSize(reminders.size());
+        assertThat(result.deleted()).isEmpty();
+        assertThat(SyncToken.decode(result.nextToken()).position()).isBefore(before);
+        verify(tombstoneRepository, never()).findDeletedIds(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test sync since token returns changes and deletions functionality")
+    void givenToken_whenFindChangesCalled_thenOnlyChangesAfterTokenReturned() {
+        // given
+        LocalDateTime position = LocalDateTime.now().minusHours(1);
+        String since = new SyncToken(position).encode();
+        BDDMockito.given(reminderRepository.findChanged(eq(1L), eq(position), any(LocalDateTime.class)))
+                .willReturn(List.of(DataUtils.getReminderPersisted()));
+        BDDMockito.given(tombstoneRepository.findDeletedIds(eq(1L), eq(position), any(LocalDateTime.class)))
+                .willReturn(List.of(7L));
+        BDDMockito.given(reminderMapper.toResponseDTO(any(Reminder.class))).willReturn(DataUtils.getReminderResponse());
+
+        // when
+        ChangesResponse result = syncService.findChanges(1L, since);
+
+        // then
+        assertThat(result.changed()).hasSize(1);
+        assertThat(result.deleted()).containsExactly(7L);
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(reminderRepository).findChanged(eq(1L), eq(position), until.capture());
+        assertThat(SyncToken.decode(result.nextToken()).position()).isEqualTo(until.getValue());
+    }
+
+    @Test
+    @DisplayName("Test sync with token older than tombstone retention functionality")
+    void givenExpiredToken_whenFindChangesCalled_thenThrowsException() {
+        // given
+        String since = new SyncToken(LocalDateTime.now().minusDays(31)).encode();
+
+        // when then
+        assertThrows(SyncTokenExpiredException.class, () -> syncService.findChanges(1L, since));
+        verify(reminderRepository, never()).findChanged(anyLong(), any(), any());
+    }
+}
@@ -0,0 +1,243 @@
+package ru.admiralpashtet.reminder.service;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
+import ru.admiralpashtet.reminder.entity.Reminder;
+import ru.admiralpashtet.reminder.event.ReminderBulkChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent;
+import ru.admiralpashtet.reminder.event.ReminderChangedEvent.ChangeType;
+import ru.admiralpashtet.reminder.service.impl.TimingWheelScheduleNotifier;
+import ru.admiralpashtet.reminder.util.DataUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+class TimingWheelScheduleNotifierTest {
+    @Mock
+    private ReminderService reminderService;
+    @Mock
+    private DispatchService dispatchService;
+    private TimingWheelScheduleNotifier scheduleNotifier;
+
+    @BeforeEach
+    void setUp() {
+        scheduleNotifier = new TimingWheelScheduleNotifier(reminderService, dispatchService, 6, 100, 60);
+    }
+
+    @Test
+    @DisplayName("Test preloaded reminder fires on its deadline")
+    void givenPreloadedReminder_whenDeadlineReached_thenDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusSeconds(1));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+
+        // when then
+        Awaitility.await()
+                .atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.times(1)).dispatch(List.of(reminder));
+                });
+        Mockito.verify(reminderService, Mockito.times(1))
+                .findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Test reminder created inside the window fires without a database read")
+    void givenCreatedEvent_whenDeadlineReached_thenDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusSeconds(1));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of());
+        BDDMockito.given(reminderService.findAllDueByIds(List.of(reminder.id()))).willReturn(List.of(reminder));
+        scheduleNotifier.doNotify();
+
+        // when
+        scheduleNotifier.onReminderChanged(new ReminderChangedEvent(ChangeType.CREATED,
+                entity.getId(), entity.getUser().getId(), entity));
+
+        // then
+        Awaitility.await()
+                .atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.times(1)).dispatch(List.of(reminder));
+                });
+    }
+
+    @Test
+    @DisplayName("Test reminder moved outside the window is cancelled without a database read")
+    void givenUpdatedEventOutsideWindow_whenDeadlineReached_thenNotDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+        scheduleNotifier.doNotify();
+        entity.setRemind(LocalDateTime.now().plusDays(1));
+
+        // when
+        scheduleNotifier.onReminderChanged(new ReminderChangedEvent(ChangeType.UPDATED,
+                entity.getId(), entity.getUser().getId(), entity));
+
+        // then
+        Awaitility.await()
+                .pollDelay(1, TimeUnit.SECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+                    Mockito.verify(reminderService, Mockito.never()).findAllDueByIds(any());
+                });
+    }
+
+    @Test
+    @DisplayName("Test reminders of a failed dispatch are read again and retried")
+    void givenFailedDispatch_whenNextTick_thenWindowReloadedAndReminderRetried() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+        BDDMockito.willThrow(new IllegalStateException("Dispatch was interrupted"))
+                .willDoNothing()
+                .given(dispatchService).dispatch(List.of(reminder));
+
+        // when then
+        Awaitility.await()
+                .atMost(3, TimeUnit.SECONDS)
+                .ignoreException(IllegalStateException.class)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(reminderService).markSent(List.of(reminder.id()));
+                });
+        Mockito.verify(dispatchService, Mockito.times(2)).dispatch(List.of(reminder));
+        Mockito.verify(reminderService, Mockito.times(2))
+                .findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Test deleted reminder does not fire")
+    void givenDeletedEvent_whenDeadlineReached_thenNotDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+        scheduleNotifier.doNotify();
+
+        // when
+        scheduleNotifier.onReminderChanged(new ReminderChangedEvent(ChangeType.DELETED,
+                reminder.id(), reminder.userId(), null));
+
+        // then
+        Awaitility.await()
+                .pollDelay(1, TimeUnit.SECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+                });
+    }
+
+    @Test
+    @DisplayName("Test reminder deleted while the window is loading does not fire")
+    void givenDeletedEventDuringLoad_whenDeadlineReached_thenNotDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willAnswer(invocation -> {
+                    scheduleNotifier.onReminderChanged(new ReminderChangedEvent(ChangeType.DELETED,
+                            reminder.id(), reminder.userId(), null));
+                    return List.of(reminder);
+                });
+
+        // when
+        scheduleNotifier.doNotify();
+
+        // then
+        Awaitility.await()
+                .pollDelay(1, TimeUnit.SECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+                });
+    }
+
+    @Test
+    @DisplayName("Test bulk rescheduled reminder fires at its new time")
+    void givenBulkUpdatedEvent_whenNewDeadlineReached_thenDispatchedReloadedReminder() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusHours(2));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+        scheduleNotifier.doNotify();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder rescheduled = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllDueByIds(List.of(rescheduled.id())))
+                .willReturn(List.of(rescheduled));
+
+        // when
+        scheduleNotifier.onRemindersBulkChanged(new ReminderBulkChangedEvent(ChangeType.UPDATED,
+                rescheduled.userId(), List.of(rescheduled.id())));
+
+        // then
+        Awaitility.await()
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService).dispatch(List.of(rescheduled));
+                });
+    }
+
+    @Test
+    @DisplayName("Test bulk deleted reminder does not fire")
+    void givenBulkDeletedEvent_whenDeadlineReached_thenNotDispatched() {
+        // given
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.setRemind(LocalDateTime.now().plusNanos(300_000_000));
+        DueReminder reminder = DueReminder.from(entity);
+        BDDMockito.given(reminderService.findAllByRemindInWindow(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(reminder));
+        scheduleNotifier.doNotify();
+
+        // when
+        scheduleNotifier.onRemindersBulkChanged(new ReminderBulkChangedEvent(ChangeType.DELETED,
+                reminder.userId(), List.of(reminder.id())));
+
+        // then
+        Awaitility.await()
+                .pollDelay(1, TimeUnit.SECONDS)
+                .atMost(2, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    scheduleNotifier.doNotify();
+                    Mockito.verify(dispatchService, Mockito.never()).dispatch(any());
+                    Mockito.verify(reminderService, Mockito.never()).findAllDueByIds(any());
+                });
+    }
+}
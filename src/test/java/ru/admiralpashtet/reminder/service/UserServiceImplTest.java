@@ -131,6 +131,29 @@ class UserServiceImplTest {
         assertThat(userResponse).isNotNull();
         assertThat(userResponse.reminderEmail()).isEqualTo(updatedUser.getReminderEmail());
         assertThat(userResponse.telegramUsername()).isEqualTo(updatedUser.getTelegramData().getUsername());
+        BDDMockito.verify(userRepository).incrementDataVersion(15L);
+    }
+
+    @Test
+    @DisplayName("Test find data version functionality")
+    void givenExistsUser_whenFindDataVersionCalled_thenReturnVersion() {
+        // given
+        BDDMockito.given(userRepository.findDataVersionById(15L))
+                .willReturn(Optional.of(42L));
+        // when
+        long version = userService.findDataVersion(15L);
+        // then
+        assertThat(version).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Test find data version of not exists user functionality")
+    void givenNotExistsUser_whenFindDataVersionCalled_thenThrowsException() {
+        // given
+        BDDMockito.given(userRepository.findDataVersionById(anyLong()))
+                .willReturn(Optional.empty());
+        // when then
+        assertThrows(UserNotFoundException.class, () -> userService.findDataVersion(15L));
     }
 
     @Test
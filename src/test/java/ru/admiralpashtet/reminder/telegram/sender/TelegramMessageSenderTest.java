@@ -9,6 +9,7 @@ import org.telegram.telegrambots.meta.api.methods.ParseMode;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.meta.generics.TelegramClient;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
 import ru.admiralpashtet.reminder.entity.Reminder;
 import ru.admiralpashtet.reminder.entity.TelegramData;
 import ru.admiralpashtet.reminder.util.DataUtils;
@@ -39,11 +40,11 @@ class TelegramMessageSenderTest {
     @DisplayName("Test send message functionality")
     void givenReminder_whenSendMessageCalled_thenMessageSend() throws TelegramApiException {
         // given
-        Reminder reminder = DataUtils.getReminderPersisted();
+        DueReminder reminder = DataUtils.getDueReminderPersisted();
         SendMessage message = SendMessage.builder()
-                .chatId(reminder.getUser().getTelegramData().getChatId())
+                .chatId(reminder.telegramChatId())
                 .parseMode(ParseMode.MARKDOWNV2)
-                .text(String.format("*%s*\n%s", reminder.getTitle(), reminder.getDescription()))
+                .text(String.format("*%s*\n%s", reminder.title(), reminder.description()))
                 .build();
         // when
         telegramMessageSender.sendMessage(reminder);
@@ -55,9 +56,12 @@ class TelegramMessageSenderTest {
     @DisplayName("Test send message without chat id functionality")
     void givenReminderWithoutChatId_whenSendMessageCalled_thenThrowsException() throws TelegramApiException {
         // given
-        Reminder reminder = DataUtils.getReminderPersisted();
-        reminder.getUser().setTelegramData(new TelegramData("mock", null));
-        // when then
+        Reminder entity = DataUtils.getReminderPersisted();
+        entity.getUser().setTelegramData(new TelegramData("mock", null));
+        DueReminder reminder = DueReminder.from(entity);
+        // when
+        telegramMessageSender.sendMessage(reminder);
+        // then
         BDDMockito.verify(telegramClient, Mockito.never()).execute(ArgumentMatchers.any(SendMessage.class));
     }
 }
\ No newline at end of file
@@ -9,14 +9,18 @@ import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.telegram.telegrambots.meta.api.objects.Update;
 import org.telegram.telegrambots.meta.api.objects.chat.Chat;
 import org.telegram.telegrambots.meta.api.objects.message.Message;
+import ru.admiralpashtet.reminder.dto.projection.DueReminder;
 import ru.admiralpashtet.reminder.dto.request.ReminderRequest;
+import ru.admiralpashtet.reminder.dto.request.SearchRequest;
 import ru.admiralpashtet.reminder.dto.response.ReminderResponse;
 import ru.admiralpashtet.reminder.entity.CustomUserPrincipal;
 import ru.admiralpashtet.reminder.entity.Reminder;
 import ru.admiralpashtet.reminder.entity.TelegramData;
 import ru.admiralpashtet.reminder.entity.User;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -162,6 +166,14 @@ public class DataUtils {
         return new ReminderRequest("Title", "Description", LocalDateTime.now().plusDays(1));
     }
 
+    /**
+     * Запрос поиска без режимов и диапазона дат: они остаются null, и сервис берет значения по умолчанию.
+     */
+    public static SearchRequest getSearchRequest(String searchQuery, LocalDate date, LocalTime time, String sortBy,
+                                                 Boolean ascending, Integer page, Integer size) {
+        return new SearchRequest(searchQuery, date, time, sortBy, ascending, page, size, null, null, null, null);
+    }
+
     public static ReminderResponse getReminderResponse() {
         return new ReminderResponse(1L, "Title", "Description", LocalDateTime.now().plusDays(1), 1);
     }
@@ -174,6 +186,16 @@ public class DataUtils {
         return new Reminder(1L, "Title", "Description", LocalDateTime.now().plusDays(1), mockUser());
     }
 
+    public static DueReminder getDueReminderPersisted() {
+        return DueReminder.from(getReminderPersisted());
+    }
+
+    public static List<DueReminder> getDueRemindersPersisted() {
+        return getPageOfRemindersPersisted().getContent().stream()
+                .map(DueReminder::from)
+                .toList();
+    }
+
     public static User mockUser() {
         User user = new User();
         user.setId(1L);